@@ -0,0 +1,19 @@
+package com.enterprise.calendar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "calendar.bulkhead")
+@Data
+public class BulkheadProperties {
+
+    // Concurrent tool calls allowed per mailbox
+    private int maxConcurrentCalls = 8;
+
+    // How long a call waits for a free permit before being rejected
+    private Duration maxWait = Duration.ofSeconds(2);
+}
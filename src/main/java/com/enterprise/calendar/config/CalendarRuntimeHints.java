@@ -0,0 +1,36 @@
+package com.enterprise.calendar.config;
+
+import com.enterprise.calendar.model.calendar.AvailableSlots;
+import com.enterprise.calendar.model.calendar.BlockResult;
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.model.calendar.RescheduleResult;
+import com.enterprise.calendar.model.calendar.TimeSlot;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Reflection and resource hints for the AOT-processed and native builds.
+ * <p>
+ * The MCP SDK binds its JSON-RPC messages with Jackson, and tool results are written from our
+ * records the same way, so both need binding hints. The Graph SDK (Kiota) parses responses through
+ * generated factory methods and needs no reflection; it only loads resources of OkHttp and Azure
+ * core at runtime. Azure Identity and MSAL ship their own native-image metadata.
+ */
+public class CalendarRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(), McpSchema.class.getDeclaredClasses());
+        bindingRegistrar.registerReflectionHints(hints.reflection(), CalendarEvent.class, TimeSlot.class, AvailableSlots.class,
+            BlockResult.class, RescheduleResult.class);
+
+        // Public suffix list used by OkHttp for cookie and host checks
+        hints.resources().registerPattern("okhttp3/internal/publicsuffix/publicsuffixes.gz");
+        // Azure SDK name and version for the User-Agent header
+        hints.resources().registerPattern("azure-*.properties");
+    }
+}
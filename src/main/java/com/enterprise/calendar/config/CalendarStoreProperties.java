@@ -0,0 +1,33 @@
+package com.enterprise.calendar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "calendar.store")
+@Data
+public class CalendarStoreProperties {
+
+    private boolean enabled = true;
+
+    // Minimum time between two delta round trips for the same window
+    private Duration refreshInterval = Duration.ofSeconds(30);
+
+    private Snapshot snapshot = new Snapshot();
+
+    @Data
+    public static class Snapshot {
+
+        // File the synced windows are written to and restored from on startup; unset disables snapshots
+        private Path path;
+
+        private Duration interval = Duration.ofMinutes(5);
+
+        // Windows synced longer ago are dropped, as Graph expires their delta tokens anyway
+        private Duration maxAge = Duration.ofDays(7);
+    }
+}
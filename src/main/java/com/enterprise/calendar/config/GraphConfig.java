@@ -1,29 +1,58 @@
 package com.enterprise.calendar.config;
 
-import com.azure.identity.ClientSecretCredential;
-import com.azure.identity.ClientSecretCredentialBuilder;
-import com.microsoft.graph.serviceclient.GraphServiceClient;
+import com.enterprise.calendar.service.GraphHttpMetricsInterceptor;
+import com.enterprise.calendar.service.GraphHttpTracingInterceptor;
+import com.microsoft.graph.core.requests.GraphClientFactory;
+import com.microsoft.kiota.http.middleware.RetryHandler;
+import com.microsoft.kiota.http.middleware.options.RetryHandlerOption;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import io.micrometer.tracing.Tracer;
 import lombok.RequiredArgsConstructor;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 @RequiredArgsConstructor
 public class GraphConfig {
 
     private final GraphProperties properties;
 
+    // Shared by the Graph clients of every tenant, so they all draw on one connection pool
     @Bean
-    public ClientSecretCredential clientSecretCredential() {
-        return new ClientSecretCredentialBuilder()
-            .tenantId(properties.getTenantId())
-            .clientId(properties.getClientId())
-            .clientSecret(properties.getClientSecret())
-            .build();
-    }
+    public OkHttpClient graphHttpClient(Tracer tracer, MeterRegistry meterRegistry) {
+        GraphProperties.Http http = properties.getHttp();
 
-    @Bean
-    public GraphServiceClient graphServiceClient(ClientSecretCredential credential) {
-        return new GraphServiceClient(credential, properties.getScope());
+        ConnectionPool connectionPool = new ConnectionPool(
+            http.getMaxIdleConnections(), http.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS);
+        // No limit gauge: OkHttp does not cap open connections, max-idle-connections only bounds idle ones
+        new OkHttpConnectionPoolMetrics(connectionPool, "graph.http.pool", Tags.empty()).bindTo(meterRegistry);
+
+        // OkHttp adds Accept-Encoding: gzip and decodes the response itself as long as no caller sets the header
+        OkHttpClient.Builder builder = GraphClientFactory.create()
+            .connectionPool(connectionPool)
+            .protocols(http.isHttp2() ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1))
+            .connectTimeout(http.getConnectTimeout())
+            .readTimeout(http.getReadTimeout())
+            .writeTimeout(http.getWriteTimeout())
+            .callTimeout(http.getCallTimeout())
+            .addInterceptor(new GraphHttpTracingInterceptor(tracer))
+            .addNetworkInterceptor(new GraphHttpMetricsInterceptor(meterRegistry));
+
+        if (properties.getThrottle().isEnabled()) {
+            // GraphThrottleController owns 429/503 handling; SDK retries underneath it would hide throttling from it
+            builder.interceptors().replaceAll(interceptor -> interceptor instanceof RetryHandler
+                ? new RetryHandler(new RetryHandlerOption(null, 0, 0))
+                : interceptor);
+        }
+
+        return builder.build();
     }
 }
@@ -4,6 +4,12 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Component
 @ConfigurationProperties(prefix = "microsoft.graph")
 @Data
@@ -13,4 +19,134 @@ public class GraphProperties {
     private String clientId;
     private String clientSecret;
     private String scope;
+    private Paging paging = new Paging();
+    private Schedule schedule = new Schedule();
+    private Batch batch = new Batch();
+    private Throttle throttle = new Throttle();
+    private Token token = new Token();
+    private Warmup warmup = new Warmup();
+    private ClientPool clientPool = new ClientPool();
+    private Http http = new Http();
+
+    // Additional tenants by key; the top-level tenant-id/client-id/client-secret form the default tenant
+    private Map<String, Tenant> tenants = new LinkedHashMap<>();
+
+    @Data
+    public static class Paging {
+
+        // Events requested per calendarView page ($top)
+        private int pageSize = 100;
+
+        // Pages fetched ahead of the consumer; bounds how many pages are held in memory
+        private int prefetchPages = 2;
+    }
+
+    @Data
+    public static class Schedule {
+
+        // Mailboxes sent per getSchedule call
+        private int maxSchedulesPerRequest = 20;
+
+        // Granularity of the free/busy availability view, must divide a day evenly
+        private int intervalMinutes = 15;
+    }
+
+    @Data
+    public static class Batch {
+
+        private boolean enabled = true;
+
+        // How long the first request of a batch waits for others to join it
+        private Duration window = Duration.ofMillis(5);
+
+        // Requests per $batch call, capped at Graph's limit of 20
+        private int maxSize = 20;
+
+        // Writes to one mailbox per $batch call; Graph runs sub-requests concurrently and Outlook
+        // rejects more than 4 concurrent requests per mailbox with 429
+        private int maxMailboxWrites = 4;
+    }
+
+    @Data
+    public static class Throttle {
+
+        private boolean enabled = true;
+
+        // Retries of a throttled (429/503) call before the error reaches the caller
+        private int maxRetries = 3;
+
+        // Wait applied when a throttled response carries no Retry-After header
+        private Duration defaultRetryAfter = Duration.ofSeconds(5);
+
+        // Request rate shared by every mailbox of the app
+        private double appRequestsPerSecond = 150;
+        private int appBurst = 300;
+
+        // Outlook allows 10,000 requests per 10 minutes per app and mailbox
+        private double mailboxRequestsPerSecond = 16;
+        private int mailboxBurst = 32;
+
+        // Concurrent calls per mailbox, adjusted AIMD-style between min and max
+        private int initialConcurrency = 4;
+        private int minConcurrency = 1;
+        private int maxConcurrency = 8;
+
+        // Factor applied to the concurrency limit on each throttled response
+        private double decreaseFactor = 0.5;
+    }
+
+    @Data
+    public static class Token {
+
+        // Renew this long before expiry; MSAL only issues a new token inside its own 5 minute window
+        private Duration refreshBefore = Duration.ofMinutes(4);
+
+        // Delay between attempts when a background refresh fails
+        private Duration refreshRetryInterval = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Warmup {
+
+        // Hold readiness until a token is cached and a Graph connection is open
+        private boolean enabled = true;
+
+        private Duration retryInterval = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Tenant {
+
+        private String tenantId;
+        private String clientId;
+        private String clientSecret;
+
+        // Mailbox domains routed to this tenant, e.g. contoso.com
+        private List<String> domains = new ArrayList<>();
+    }
+
+    @Data
+    public static class ClientPool {
+
+        // Clients of tenants other than the default are dropped after this long without a call
+        private Duration idleTimeout = Duration.ofMinutes(30);
+    }
+
+    @Data
+    public static class Http {
+
+        // Idle connections kept open across all tenants, and how long an unused one is kept
+        private int maxIdleConnections = 16;
+        private Duration keepAlive = Duration.ofMinutes(5);
+
+        // Negotiate HTTP/2 so concurrent calls share one connection per host; false forces HTTP/1.1
+        private boolean http2 = true;
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration readTimeout = Duration.ofSeconds(30);
+        private Duration writeTimeout = Duration.ofSeconds(30);
+
+        // Upper bound on a whole call including redirects and SDK retries, 0 for none
+        private Duration callTimeout = Duration.ofSeconds(60);
+    }
 }
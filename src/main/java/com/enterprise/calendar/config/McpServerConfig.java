@@ -8,9 +8,11 @@ import io.modelcontextprotocol.spec.McpSchema;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @Configuration
 @RequiredArgsConstructor
+@ImportRuntimeHints(CalendarRuntimeHints.class)
 public class McpServerConfig {
 
     private final CalendarToolsProvider toolsProvider;
@@ -0,0 +1,22 @@
+package com.enterprise.calendar.exception;
+
+import lombok.Getter;
+
+@Getter
+public class BatchStepException extends GraphAPIException {
+
+    private final int statusCode;
+
+    // Raw Retry-After header of the sub-response, null when Graph did not send one
+    private final String retryAfter;
+
+    public BatchStepException(int statusCode, String message) {
+        this(statusCode, null, message);
+    }
+
+    public BatchStepException(int statusCode, String retryAfter, String message) {
+        super(message);
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,8 @@
+package com.enterprise.calendar.exception;
+
+public class DeltaTokenExpiredException extends GraphAPIException {
+
+    public DeltaTokenExpiredException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,8 @@
+package com.enterprise.calendar.exception;
+
+public class EventChangedException extends GraphAPIException {
+
+    public EventChangedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,8 @@
+package com.enterprise.calendar.exception;
+
+public class EventNotFoundException extends GraphAPIException {
+
+    public EventNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
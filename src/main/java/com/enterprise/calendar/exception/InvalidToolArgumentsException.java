@@ -0,0 +1,12 @@
+package com.enterprise.calendar.exception;
+
+public class InvalidToolArgumentsException extends IllegalArgumentException {
+
+    public InvalidToolArgumentsException(String message) {
+        super(message);
+    }
+
+    public InvalidToolArgumentsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
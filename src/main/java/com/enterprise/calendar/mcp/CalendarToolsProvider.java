@@ -1,122 +1,326 @@
 package com.enterprise.calendar.mcp;
 
-import com.enterprise.calendar.mcp.schema.BlockDatesSchema;
-import com.enterprise.calendar.mcp.schema.FindSlotsSchema;
-import com.enterprise.calendar.mcp.schema.GetEventsSchema;
-import com.enterprise.calendar.mcp.schema.RescheduleEventSchema;
+import com.enterprise.calendar.mcp.ToolRegistry.ToolSpec;
+import com.enterprise.calendar.mcp.schema.BlockDatesArguments;
+import com.enterprise.calendar.mcp.schema.FindSlotsArguments;
+import com.enterprise.calendar.mcp.schema.GetEventsArguments;
+import com.enterprise.calendar.mcp.schema.RescheduleEventArguments;
+import com.enterprise.calendar.mcp.schema.ToolArguments;
+import com.enterprise.calendar.model.calendar.AvailableSlots;
+import com.enterprise.calendar.model.calendar.BlockResult;
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.model.calendar.EventField;
+import com.enterprise.calendar.model.calendar.RescheduleResult;
 import com.enterprise.calendar.service.CalendarService;
+import com.enterprise.calendar.service.MailboxBulkhead;
+import com.enterprise.calendar.util.DateUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
 import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
 import io.modelcontextprotocol.server.McpSyncServer;
 import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
-import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
 import io.modelcontextprotocol.spec.McpSchema.TextContent;
 import io.modelcontextprotocol.spec.McpSchema.Tool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
-import java.util.function.Supplier;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class CalendarToolsProvider {
 
+    private static final String TRACEPARENT = "traceparent";
+    // W3C trace context travels in the request _meta, the MCP transport has no headers of its own
+    private static final Propagator.Getter<Map<String, Object>> META_GETTER =
+        (meta, key) -> meta.get(key) instanceof String value ? value : null;
+
     private final CalendarService calendarService;
     private final ObjectMapper objectMapper;
+    private final MailboxBulkhead bulkhead;
+    private final JsonBufferPool bufferPool;
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+    private final Propagator propagator;
+    private final Map<String, AtomicInteger> activeCalls = new ConcurrentHashMap<>();
 
-    private List<ToolDefinition> getToolDefinitions() {
-        return List.of(
-            new ToolDefinition(
-                "get_events",
-                "Query calendar events by date range",
-                GetEventsSchema::create,
-                this::handleGetEvents
-            ),
-            new ToolDefinition(
-                "block_dates",
-                "Block time slots by creating Out of Office events",
-                BlockDatesSchema::create,
-                null  // To be implemented
-            ),
-            new ToolDefinition(
-                "find_available_slots",
-                "Find available time slots in calendar for scheduling",
-                FindSlotsSchema::create,
-                null  // To be implemented
-            ),
-            new ToolDefinition(
-                "reschedule_event",
-                "Reschedule an existing calendar event to a new date/time",
-                RescheduleEventSchema::create,
-                null  // To be implemented
-            )
-        );
-    }
+    private final ToolRegistry registry = new ToolRegistry(List.of(
+        ToolRegistry.tool(
+            "get_events",
+            "Query calendar events by date range",
+            GetEventsArguments.BINDER,
+            this::handleGetEvents
+        ),
+        ToolRegistry.tool(
+            "block_dates",
+            "Block time slots by creating Out of Office events",
+            BlockDatesArguments.BINDER,
+            this::handleBlockDates
+        ),
+        ToolRegistry.tool(
+            "find_available_slots",
+            "Find available time slots in calendar for scheduling",
+            FindSlotsArguments.BINDER,
+            this::handleFindAvailableSlots
+        ),
+        ToolRegistry.tool(
+            "reschedule_event",
+            "Reschedule an existing calendar event to a new date/time",
+            RescheduleEventArguments.BINDER,
+            this::handleRescheduleEvent
+        )
+    ));
 
     public List<Tool> getTools() {
-        return getToolDefinitions().stream()
-            .map(this::buildTool)
-            .toList();
-    }
-
-    private Tool buildTool(ToolDefinition definition) {
-        return Tool.builder()
-            .name(definition.name())
-            .description(definition.description())
-            .inputSchema(definition.schemaSupplier().get())
-            .build();
+        return registry.tools();
     }
 
     public void registerTools(McpSyncServer server) {
         log.info("Registering MCP tools with handlers");
 
-        getToolDefinitions().forEach(definition -> {
-            if (definition.handler() != null) {
-                var spec = new SyncToolSpecification(
-                    buildTool(definition),
-                    definition.handler()
+        List<ToolSpec<?>> specs = registry.specs();
+        specs.forEach(spec -> {
+            server.addTool(SyncToolSpecification.builder()
+                .tool(spec.tool())
+                .callHandler(guarded(spec))
+                .build());
+            log.debug("Registered tool '{}' with handler", spec.name());
+        });
+
+        log.info("Registered {} tools with handlers", specs.size());
+    }
+
+    // Arguments are bound before the bulkhead, so malformed calls never take a permit or reach the handler
+    private <T extends ToolArguments> BiFunction<McpSyncServerExchange, CallToolRequest, CallToolResult> guarded(
+        ToolSpec<T> spec
+    ) {
+        String tool = spec.name();
+        AtomicInteger active = activeCalls.computeIfAbsent(tool, name ->
+            meterRegistry.gauge("mcp.tool.active", Tags.of("tool", name), new AtomicInteger()));
+        DistributionSummary responseSize = DistributionSummary.builder("mcp.tool.response.size")
+            .description("Characters of text content returned by a tool call")
+            .baseUnit("chars")
+            .tag("tool", tool)
+            .register(meterRegistry);
+
+        return (exchange, request) -> {
+            Span span = startSpan(tool, request);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "success";
+            active.incrementAndGet();
+            try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+                T arguments = spec.binder().bind(request.arguments());
+                CallToolResult result = bulkhead.execute(
+                    arguments.mailbox(),
+                    () -> spec.handler().apply(exchange, arguments)
                 );
-                server.addTool(spec);
-                log.debug("Registered tool '{}' with handler", definition.name());
-            } else {
-                log.warn("Tool '{}' has no handler - skipping registration", definition.name());
+                result.content().forEach(content -> {
+                    if (content instanceof TextContent text) {
+                        responseSize.record(text.text().length());
+                    }
+                });
+                return result;
+            } catch (RuntimeException e) {
+                outcome = "error";
+                meterRegistry.counter("mcp.tool.errors", "tool", tool, "exception", rootCause(e).getClass().getSimpleName())
+                    .increment();
+                span.error(e);
+                throw e;
+            } finally {
+                active.decrementAndGet();
+                sample.stop(meterRegistry.timer("mcp.tool.duration", "tool", tool, "outcome", outcome));
+                span.end();
             }
-        });
+        };
+    }
 
-        log.info("Registered {} tools with handlers",
-            getToolDefinitions().stream().filter(d -> d.handler() != null).count());
+    private Span startSpan(String tool, CallToolRequest request) {
+        Map<String, Object> meta = request.meta();
+        Span.Builder builder = meta != null && meta.containsKey(TRACEPARENT)
+            ? propagator.extract(meta, META_GETTER)
+            : tracer.spanBuilder();
+        return builder
+            .name("mcp.tool " + tool)
+            .kind(Span.Kind.SERVER)
+            .tag("mcp.tool.name", tool)
+            .start();
     }
 
-    private record ToolDefinition(
-        String name,
-        String description,
-        Supplier<JsonSchema> schemaSupplier,
-        BiFunction<McpSyncServerExchange, Map<String, Object>, CallToolResult> handler
-    ) {}
+    private static Throwable rootCause(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
 
-    public CallToolResult handleGetEvents(McpSyncServerExchange exchange, Map<String, Object> arguments) {
+    public CallToolResult handleGetEvents(McpSyncServerExchange exchange, GetEventsArguments arguments) {
         try {
             log.debug("Handling get_events with arguments: {}", arguments);
 
-            String startDate = (String) arguments.get("start_date");
-            String endDate = (String) arguments.get("end_date");
+            String mailbox = arguments.mailbox();
+            String startDate = arguments.startDate();
+            String endDate = arguments.endDate();
+            Set<EventField> fields = arguments.fields();
+            boolean compact = arguments.compact();
 
-            var events = calendarService.getEvents(startDate, endDate);
-            String json = objectMapper.writeValueAsString(events);
+            CharArrayWriter buffer = bufferPool.acquire();
+            try {
+                int count;
+                try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer)) {
+                    count = compact
+                        ? writeCompactEvents(generator, mailbox, startDate, endDate, fields)
+                        : writeEvents(generator, mailbox, startDate, endDate, fields);
+                }
 
-            log.info("get_events returned {} events", events.size());
+                log.info("get_events returned {} events", count);
+                recordResultItems("get_events", count);
 
-            var textContent = new TextContent(json);
-            return new CallToolResult(List.of(textContent), false, null, null);
+                var textContent = new TextContent(buffer.toString());
+                return new CallToolResult(List.of(textContent), false, null, null);
+            } finally {
+                bufferPool.release(buffer);
+            }
         } catch (Exception e) {
             log.error("Failed to handle get_events: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to handle get_events", e);
         }
     }
+
+    public CallToolResult handleBlockDates(McpSyncServerExchange exchange, BlockDatesArguments arguments) {
+        try {
+            log.debug("Handling block_dates with arguments: {}", arguments);
+
+            List<BlockResult> results = calendarService.blockDates(arguments.mailbox(), arguments.blocks(),
+                arguments.title(), arguments.description(), arguments.idempotencyKey());
+            long blocked = results.stream().filter(BlockResult::blocked).count();
+            String json = objectMapper.writeValueAsString(results);
+
+            log.info("block_dates blocked {} of {} time slots", blocked, results.size());
+            recordResultItems("block_dates", (int) blocked);
+
+            // Partial success is reported per block; only a call that blocked nothing is an error
+            var textContent = new TextContent(json);
+            return new CallToolResult(List.of(textContent), blocked == 0, null, null);
+        } catch (Exception e) {
+            log.error("Failed to handle block_dates: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to handle block_dates", e);
+        }
+    }
+
+    public CallToolResult handleFindAvailableSlots(McpSyncServerExchange exchange, FindSlotsArguments arguments) {
+        try {
+            log.debug("Handling find_available_slots with arguments: {}", arguments);
+
+            AvailableSlots result = calendarService.findAvailableSlots(arguments.mailbox(), arguments.startDate(),
+                arguments.endDate(), arguments.durationMinutes(), arguments.workingHours(), arguments.participants());
+            String json = objectMapper.writeValueAsString(result);
+
+            log.info("find_available_slots returned {} slots, {} unresolved participants",
+                result.slots().size(), result.unresolvedParticipants().size());
+            recordResultItems("find_available_slots", result.slots().size());
+
+            var textContent = new TextContent(json);
+            return new CallToolResult(List.of(textContent), false, null, null);
+        } catch (Exception e) {
+            log.error("Failed to handle find_available_slots: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to handle find_available_slots", e);
+        }
+    }
+
+    public CallToolResult handleRescheduleEvent(McpSyncServerExchange exchange, RescheduleEventArguments arguments) {
+        try {
+            log.debug("Handling reschedule_event with arguments: {}", arguments);
+
+            RescheduleResult result = calendarService.rescheduleEvent(arguments.mailbox(), arguments.eventId(),
+                arguments.newStart(), arguments.newEnd(), arguments.etag(), arguments.allowConflicts());
+            String json = objectMapper.writeValueAsString(result);
+
+            log.info("reschedule_event finished with {}", result.status());
+            meterRegistry.counter("mcp.tool.reschedule.outcomes", "status", result.status().name()).increment();
+
+            // Conflicts and stale etags are expected outcomes the caller acts on, reported as structured errors
+            var textContent = new TextContent(json);
+            return new CallToolResult(List.of(textContent), result.status() != RescheduleResult.Status.RESCHEDULED, null, null);
+        } catch (Exception e) {
+            log.error("Failed to handle reschedule_event: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to handle reschedule_event", e);
+        }
+    }
+
+    private void recordResultItems(String tool, int items) {
+        DistributionSummary.builder("mcp.tool.result.items")
+            .description("Events, slots or blocks returned by a tool call")
+            .tag("tool", tool)
+            .register(meterRegistry)
+            .record(items);
+    }
+
+    // Serializes each page as it arrives. Graph-backed calls keep one page of events alive at a time; with the
+    // store enabled the page is a single list referencing events the store already holds
+    private int writeEvents(JsonGenerator generator, String mailbox, String startDate, String endDate,
+                            Set<EventField> fields) throws IOException {
+        generator.writeStartArray();
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        int[] count = {0};
+        calendarService.streamEvents(mailbox, startDate, endDate, page -> {
+            try {
+                for (CalendarEvent event : page) {
+                    if (fields == null) {
+                        writer.writeValue(generator, event);
+                    } else {
+                        writeProjected(generator, writer, event, fields);
+                    }
+                }
+                count[0] += page.size();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.writeEndArray();
+        return count[0];
+    }
+
+    private int writeCompactEvents(JsonGenerator generator, String mailbox, String startDate, String endDate,
+                                   Set<EventField> fields) throws IOException {
+        var encoder = new CompactEventEncoder(
+            DateUtils.parseStartOfDay(startDate),
+            fields != null ? fields : EnumSet.allOf(EventField.class)
+        );
+        calendarService.streamEvents(mailbox, startDate, endDate, encoder::accept);
+        encoder.writeTo(generator);
+        return encoder.size();
+    }
+
+    private void writeProjected(JsonGenerator generator, ObjectWriter writer, CalendarEvent event,
+                                Set<EventField> fields) throws IOException {
+        generator.writeStartObject();
+        for (EventField field : fields) {
+            generator.writeFieldName(field.fieldName());
+            writer.writeValue(generator, field.valueOf(event));
+        }
+        generator.writeEndObject();
+    }
 }
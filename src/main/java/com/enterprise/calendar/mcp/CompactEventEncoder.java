@@ -0,0 +1,149 @@
+package com.enterprise.calendar.mcp;
+
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.model.calendar.EventField;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Columnar encoding of get_events results for {@code format=compact}.
+ * <p>
+ * Each selected field becomes one array. Subject, location and organizer strings are replaced
+ * by indexes into a per-response {@code strings} dictionary, {@code start} is an offset from
+ * {@code origin} and {@code end} the length of the event, both in {@code unit}. Pages are folded
+ * into primitive columns as they arrive, so the events themselves are not retained.
+ */
+class CompactEventEncoder {
+
+    private static final long NULL = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final OffsetDateTime origin;
+    private final long originSecond;
+    private final Set<EventField> fields;
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final List<String> ids = new ArrayList<>();
+    private final long[][] columns = new long[EventField.values().length][];
+    private int count;
+    private boolean minuteAligned = true;
+
+    CompactEventEncoder(OffsetDateTime origin, Set<EventField> fields) {
+        this.origin = origin;
+        this.originSecond = origin.toEpochSecond();
+        this.fields = fields;
+        for (EventField field : fields) {
+            if (field != EventField.ID) {
+                columns[field.ordinal()] = new long[INITIAL_CAPACITY];
+            }
+        }
+    }
+
+    void accept(List<CalendarEvent> page) {
+        for (CalendarEvent event : page) {
+            if (count >= capacity()) {
+                grow();
+            }
+            for (EventField field : fields) {
+                switch (field) {
+                    case ID -> ids.add(event.id());
+                    case SUBJECT, LOCATION, ORGANIZER_NAME, ORGANIZER_EMAIL ->
+                        columns[field.ordinal()][count] = stringIndex((String) field.valueOf(event));
+                    case START -> columns[field.ordinal()][count] = event.start() != null
+                        ? seconds(event.start()) - originSecond
+                        : NULL;
+                    case END -> columns[field.ordinal()][count] = event.start() != null && event.end() != null
+                        ? seconds(event.end()) - seconds(event.start())
+                        : NULL;
+                    case IS_ALL_DAY -> columns[field.ordinal()][count] = event.isAllDay() ? 1 : 0;
+                }
+            }
+            count++;
+        }
+    }
+
+    int size() {
+        return count;
+    }
+
+    void writeTo(JsonGenerator generator) throws IOException {
+        long unit = minuteAligned ? 60 : 1;
+
+        generator.writeStartObject();
+        generator.writeStringField("format", "compact");
+        generator.writeStringField("origin", origin.withOffsetSameInstant(ZoneOffset.UTC).toString());
+        generator.writeStringField("unit", minuteAligned ? "minutes" : "seconds");
+        generator.writeNumberField("count", count);
+
+        generator.writeArrayFieldStart("strings");
+        for (String value : strings) {
+            generator.writeString(value);
+        }
+        generator.writeEndArray();
+
+        for (EventField field : fields) {
+            generator.writeArrayFieldStart(field.fieldName());
+            if (field == EventField.ID) {
+                for (String id : ids) {
+                    generator.writeString(id);
+                }
+            } else {
+                long[] column = columns[field.ordinal()];
+                boolean timed = field == EventField.START || field == EventField.END;
+                for (int i = 0; i < count; i++) {
+                    if (column[i] == NULL) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeNumber(timed ? column[i] / unit : column[i]);
+                    }
+                }
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    private long seconds(OffsetDateTime dateTime) {
+        long epochSecond = dateTime.toEpochSecond();
+        if (epochSecond % 60 != 0) {
+            minuteAligned = false;
+        }
+        return epochSecond;
+    }
+
+    private long stringIndex(String value) {
+        if (value == null) {
+            return NULL;
+        }
+        return stringIndexes.computeIfAbsent(value, key -> {
+            strings.add(key);
+            return strings.size() - 1;
+        });
+    }
+
+    private int capacity() {
+        for (long[] column : columns) {
+            if (column != null) {
+                return column.length;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private void grow() {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] != null) {
+                columns[i] = Arrays.copyOf(columns[i], columns[i].length * 2);
+            }
+        }
+    }
+}
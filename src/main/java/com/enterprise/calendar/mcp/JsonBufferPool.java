@@ -0,0 +1,40 @@
+package com.enterprise.calendar.mcp;
+
+import org.springframework.stereotype.Component;
+
+import java.io.CharArrayWriter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Reusable character buffers that tool handlers stream their JSON results into.
+ * <p>
+ * Buffers keep their capacity between requests. A buffer that grew beyond
+ * {@link #MAX_RETAINED_CHARS} is dropped on release so one oversized response does not
+ * pin that much memory for the lifetime of the pool.
+ */
+@Component
+public class JsonBufferPool {
+
+    static final int MAX_RETAINED_CHARS = 1 << 20;
+    private static final int INITIAL_CHARS = 16 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 32;
+
+    private final BlockingQueue<CharArrayWriter> buffers = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+
+    public CharArrayWriter acquire() {
+        CharArrayWriter buffer = buffers.poll();
+        return buffer != null ? buffer : new CharArrayWriter(INITIAL_CHARS);
+    }
+
+    public void release(CharArrayWriter buffer) {
+        if (buffer.size() <= MAX_RETAINED_CHARS) {
+            buffer.reset();
+            buffers.offer(buffer);
+        }
+    }
+
+    int pooledBuffers() {
+        return buffers.size();
+    }
+}
@@ -0,0 +1,58 @@
+package com.enterprise.calendar.mcp;
+
+import com.enterprise.calendar.mcp.schema.ArgumentBinder;
+import com.enterprise.calendar.mcp.schema.ToolArguments;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
+import io.modelcontextprotocol.spec.McpSchema.Tool;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Immutable set of the tools this server offers, built once with their {@link Tool} descriptors
+ * and compiled argument binders.
+ */
+final class ToolRegistry {
+
+    private final List<ToolSpec<?>> specs;
+    private final List<Tool> tools;
+
+    ToolRegistry(List<ToolSpec<?>> specs) {
+        this.specs = List.copyOf(specs);
+        this.tools = this.specs.stream().map(ToolSpec::tool).toList();
+    }
+
+    List<Tool> tools() {
+        return tools;
+    }
+
+    List<ToolSpec<?>> specs() {
+        return specs;
+    }
+
+    static <T extends ToolArguments> ToolSpec<T> tool(String name, String description, ArgumentBinder<T> binder,
+                                                      BiFunction<McpSyncServerExchange, T, CallToolResult> handler) {
+        return new ToolSpec<>(buildTool(name, description, binder.schema()), binder, handler);
+    }
+
+    private static Tool buildTool(String name, String description, JsonSchema schema) {
+        return Tool.builder()
+            .name(name)
+            .description(description)
+            .inputSchema(schema)
+            .build();
+    }
+
+    record ToolSpec<T extends ToolArguments>(
+        Tool tool,
+        ArgumentBinder<T> binder,
+        BiFunction<McpSyncServerExchange, T, CallToolResult> handler
+    ) {
+
+        String name() {
+            return tool.name();
+        }
+    }
+}
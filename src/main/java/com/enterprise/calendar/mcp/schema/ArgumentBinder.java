@@ -0,0 +1,175 @@
+package com.enterprise.calendar.mcp.schema;
+
+import com.enterprise.calendar.exception.InvalidToolArgumentsException;
+import io.modelcontextprotocol.spec.McpSchema.JsonSchema;
+
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Checks the raw arguments of a tool call against its input schema and converts them into a typed record.
+ * <p>
+ * Compiled once per schema: every property gets a slot and a converter for its declared type
+ * ({@code string} with optional {@code enum}, {@code integer}, {@code boolean}, or an {@code array}
+ * of those). Binding walks the arguments once, fills the slots, checks required properties and
+ * hands the slots to the record factory, which adds the checks the schema cannot express. All
+ * problems are reported together in one {@link InvalidToolArgumentsException}. Properties not in
+ * the schema are ignored, as the schemas do not forbid additional properties.
+ */
+public final class ArgumentBinder<T> {
+
+    private final JsonSchema schema;
+    private final Map<String, Property> properties;
+    private final List<Property> required;
+    private final Function<Values, T> factory;
+
+    private ArgumentBinder(JsonSchema schema, Map<String, Property> properties, List<Property> required,
+                           Function<Values, T> factory) {
+        this.schema = schema;
+        this.properties = properties;
+        this.required = required;
+        this.factory = factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> ArgumentBinder<T> compile(JsonSchema schema, Function<Values, T> factory) {
+        Map<String, Property> properties = new HashMap<>();
+        schema.properties().forEach((name, definition) -> properties.put(name,
+            new Property(name, properties.size(), converter(name, (Map<String, Object>) definition))));
+
+        List<Property> required = schema.required() != null
+            ? schema.required().stream().map(properties::get).toList()
+            : List.of();
+        return new ArgumentBinder<>(schema, Map.copyOf(properties), required, factory);
+    }
+
+    public JsonSchema schema() {
+        return schema;
+    }
+
+    public T bind(Map<String, Object> arguments) {
+        Map<String, Object> raw = arguments != null ? arguments : Map.of();
+        Object[] slots = new Object[properties.size()];
+        List<String> problems = new ArrayList<>();
+
+        raw.forEach((name, value) -> {
+            Property property = properties.get(name);
+            if (property == null || value == null) {
+                return;
+            }
+            try {
+                slots[property.index()] = property.converter().apply(value);
+            } catch (IllegalArgumentException e) {
+                problems.add(e.getMessage());
+            }
+        });
+        for (Property property : required) {
+            if (raw.get(property.name()) == null) {
+                problems.add(property.name() + " is required");
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new InvalidToolArgumentsException(String.join("; ", problems));
+        }
+
+        try {
+            return factory.apply(new Values(properties, slots));
+        } catch (InvalidToolArgumentsException e) {
+            throw e;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidToolArgumentsException(e.getMessage(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UnaryOperator<Object> converter(String name, Map<String, Object> definition) {
+        Object type = definition.get("type");
+        return switch (String.valueOf(type)) {
+            case "string" -> {
+                List<Object> allowed = (List<Object>) definition.get("enum");
+                yield value -> {
+                    if (!(value instanceof String text)) {
+                        throw new IllegalArgumentException(name + " must be a string");
+                    }
+                    if (allowed != null && !allowed.contains(text)) {
+                        throw new IllegalArgumentException(name + " must be one of " + allowed);
+                    }
+                    return text;
+                };
+            }
+            case "integer" -> value -> {
+                if (value instanceof Number number && number.doubleValue() == Math.rint(number.doubleValue())
+                    && number.doubleValue() >= Integer.MIN_VALUE && number.doubleValue() <= Integer.MAX_VALUE) {
+                    return number.intValue();
+                }
+                throw new IllegalArgumentException(name + " must be an integer");
+            };
+            case "boolean" -> value -> {
+                if (!(value instanceof Boolean)) {
+                    throw new IllegalArgumentException(name + " must be a boolean");
+                }
+                return value;
+            };
+            case "array" -> {
+                UnaryOperator<Object> item = converter(name + " items", (Map<String, Object>) definition.get("items"));
+                yield value -> {
+                    if (!(value instanceof List<?> list)) {
+                        throw new IllegalArgumentException(name + " must be an array");
+                    }
+                    List<Object> items = new ArrayList<>(list.size());
+                    for (Object element : list) {
+                        items.add(item.apply(element));
+                    }
+                    return List.copyOf(items);
+                };
+            }
+            default -> throw new IllegalStateException("Unsupported schema type '" + type + "' of property " + name);
+        };
+    }
+
+    private record Property(String name, int index, UnaryOperator<Object> converter) {}
+
+    /**
+     * Converted arguments by property name; absent optional properties are {@code null}.
+     */
+    public static final class Values {
+
+        private final Map<String, Property> properties;
+        private final Object[] slots;
+
+        private Values(Map<String, Property> properties, Object[] slots) {
+            this.properties = properties;
+            this.slots = slots;
+        }
+
+        public String string(String name) {
+            return (String) get(name);
+        }
+
+        public Integer integer(String name) {
+            return (Integer) get(name);
+        }
+
+        public Boolean bool(String name) {
+            return (Boolean) get(name);
+        }
+
+        @SuppressWarnings("unchecked")
+        public List<String> strings(String name) {
+            return (List<String>) get(name);
+        }
+
+        private Object get(String name) {
+            Property property = properties.get(name);
+            if (property == null) {
+                throw new IllegalStateException("No property " + name + " in tool schema");
+            }
+            return slots[property.index()];
+        }
+    }
+}
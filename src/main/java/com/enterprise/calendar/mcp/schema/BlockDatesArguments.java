@@ -0,0 +1,95 @@
+package com.enterprise.calendar.mcp.schema;
+
+import com.enterprise.calendar.model.calendar.TimeSlot;
+import com.enterprise.calendar.util.DateUtils;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+// blocks holds one slot per blocked day, all in UTC
+public record BlockDatesArguments(
+    String mailbox,
+    List<TimeSlot> blocks,
+    String title,
+    String description,
+    String idempotencyKey
+) implements ToolArguments {
+
+    public static final String DEFAULT_TITLE = "Out of Office";
+    // 25 sequential $batch calls of 4 events at the default microsoft.graph.batch.max-mailbox-writes
+    public static final int MAX_BLOCKS = 100;
+
+    public static final ArgumentBinder<BlockDatesArguments> BINDER =
+        ArgumentBinder.compile(BlockDatesSchema.create(), BlockDatesArguments::from);
+
+    private static BlockDatesArguments from(ArgumentBinder.Values values) {
+        LocalDateTime start = DateUtils.parseDateTime(values.string("start_datetime")).toLocalDateTime();
+        LocalDateTime end = DateUtils.parseDateTime(values.string("end_datetime")).toLocalDateTime();
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("end_datetime must be after start_datetime");
+        }
+
+        LocalTime dailyStart = time(values, "daily_start_time");
+        LocalTime dailyEnd = time(values, "daily_end_time");
+        if (!dailyEnd.equals(LocalTime.MIN) && !dailyEnd.isAfter(dailyStart)) {
+            throw new IllegalArgumentException("daily_end_time must be after daily_start_time");
+        }
+        boolean includeWeekends = !Boolean.FALSE.equals(values.bool("include_weekends"));
+
+        List<TimeSlot> blocks = split(start, end, dailyStart, dailyEnd, includeWeekends);
+        if (blocks.isEmpty()) {
+            throw new IllegalArgumentException("No time between start_datetime and end_datetime matches the daily times and weekdays");
+        }
+        if (blocks.size() > MAX_BLOCKS) {
+            throw new IllegalArgumentException("At most " + MAX_BLOCKS + " days can be blocked at once, got " + blocks.size());
+        }
+
+        String title = values.string("title");
+        return new BlockDatesArguments(
+            ToolArguments.mailboxOf(values),
+            blocks,
+            title != null && !title.isBlank() ? title : DEFAULT_TITLE,
+            values.string("description"),
+            values.string("idempotency_key")
+        );
+    }
+
+    // One block per day, cut to the daily times and the overall range; a daily end of midnight means the end of the day
+    static List<TimeSlot> split(LocalDateTime start, LocalDateTime end, LocalTime dailyStart, LocalTime dailyEnd,
+                                boolean includeWeekends) {
+        List<TimeSlot> blocks = new ArrayList<>();
+        for (LocalDate day = start.toLocalDate(); day.atStartOfDay().isBefore(end); day = day.plusDays(1)) {
+            if (!includeWeekends && (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY)) {
+                continue;
+            }
+            LocalDateTime dayStart = day.atTime(dailyStart);
+            LocalDateTime dayEnd = dailyEnd.equals(LocalTime.MIN) ? day.plusDays(1).atStartOfDay() : day.atTime(dailyEnd);
+            LocalDateTime from = start.isAfter(dayStart) ? start : dayStart;
+            LocalDateTime to = end.isBefore(dayEnd) ? end : dayEnd;
+            if (from.isBefore(to)) {
+                blocks.add(new TimeSlot(from.atOffset(ZoneOffset.UTC), to.atOffset(ZoneOffset.UTC),
+                    Duration.between(from, to).toMinutes()));
+            }
+        }
+        return blocks;
+    }
+
+    private static LocalTime time(ArgumentBinder.Values values, String name) {
+        String value = values.string(name);
+        if (value == null) {
+            return LocalTime.MIN;
+        }
+        try {
+            return LocalTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " must be a time of day (HH:mm)", e);
+        }
+    }
+}
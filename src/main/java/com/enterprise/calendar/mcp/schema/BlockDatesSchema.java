@@ -9,13 +9,29 @@ public class BlockDatesSchema {
 
     public static McpSchema.JsonSchema create() {
         Map<String, Object> properties = Map.of(
+            "mailbox", Map.of(
+                "type", "string",
+                "description", "User id or email address of the calendar owner (optional, defaults to the service account)"
+            ),
             "start_datetime", Map.of(
                 "type", "string",
-                "description", "Start datetime in ISO8601 format (yyyy-MM-dd'T'HH:mm:ss)"
+                "description", "Start datetime in UTC, ISO8601 format (yyyy-MM-dd'T'HH:mm:ss)"
             ),
             "end_datetime", Map.of(
                 "type", "string",
-                "description", "End datetime in ISO8601 format (yyyy-MM-dd'T'HH:mm:ss)"
+                "description", "End datetime in UTC, ISO8601 format (yyyy-MM-dd'T'HH:mm:ss)"
+            ),
+            "daily_start_time", Map.of(
+                "type", "string",
+                "description", "Start of the blocked time on each day in UTC (HH:mm, optional, defaults to the whole day)"
+            ),
+            "daily_end_time", Map.of(
+                "type", "string",
+                "description", "End of the blocked time on each day in UTC (HH:mm, optional, defaults to the whole day)"
+            ),
+            "include_weekends", Map.of(
+                "type", "boolean",
+                "description", "Whether Saturdays and Sundays are blocked too (optional, defaults to true)"
             ),
             "title", Map.of(
                 "type", "string",
@@ -24,6 +40,10 @@ public class BlockDatesSchema {
             "description", Map.of(
                 "type", "string",
                 "description", "Event description (optional)"
+            ),
+            "idempotency_key", Map.of(
+                "type", "string",
+                "description", "Reuse when retrying the same request so no block is created twice (optional)"
             )
         );
 
@@ -0,0 +1,64 @@
+package com.enterprise.calendar.mcp.schema;
+
+import com.enterprise.calendar.model.calendar.WorkingHours;
+import com.enterprise.calendar.util.DateUtils;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+public record FindSlotsArguments(
+    String mailbox,
+    String startDate,
+    String endDate,
+    int durationMinutes,
+    WorkingHours workingHours,
+    List<String> participants
+) implements ToolArguments {
+
+    public static final ArgumentBinder<FindSlotsArguments> BINDER =
+        ArgumentBinder.compile(FindSlotsSchema.create(), FindSlotsArguments::from);
+
+    private static FindSlotsArguments from(ArgumentBinder.Values values) {
+        String startDate = values.string("start_date");
+        String endDate = values.string("end_date");
+        DateUtils.validateDateRange(startDate, endDate);
+
+        int durationMinutes = values.integer("duration_minutes");
+        if (durationMinutes <= 0) {
+            throw new IllegalArgumentException("duration_minutes must be greater than zero");
+        }
+
+        List<String> participants = values.strings("participants");
+        return new FindSlotsArguments(
+            ToolArguments.mailboxOf(values),
+            startDate,
+            endDate,
+            durationMinutes,
+            workingHours(values),
+            participants != null ? participants : List.of()
+        );
+    }
+
+    private static WorkingHours workingHours(ArgumentBinder.Values values) {
+        boolean includeWeekends = !Boolean.FALSE.equals(values.bool("include_weekends"));
+        LocalTime start = time(values, "working_hours_start");
+        LocalTime end = time(values, "working_hours_end");
+        if (!end.equals(LocalTime.MIN) && !end.isAfter(start)) {
+            throw new IllegalArgumentException("working_hours_end must be after working_hours_start");
+        }
+        return new WorkingHours(start, end, includeWeekends);
+    }
+
+    private static LocalTime time(ArgumentBinder.Values values, String name) {
+        String value = values.string(name);
+        if (value == null) {
+            return LocalTime.MIN;
+        }
+        try {
+            return LocalTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " must be a time of day (HH:mm)", e);
+        }
+    }
+}
@@ -9,6 +9,10 @@ public class FindSlotsSchema {
 
     public static McpSchema.JsonSchema create() {
         Map<String, Object> properties = Map.of(
+            "mailbox", Map.of(
+                "type", "string",
+                "description", "User id or email address of the calendar owner (optional, defaults to the service account)"
+            ),
             "start_date", Map.of(
                 "type", "string",
                 "description", "Start date in ISO8601 format (yyyy-MM-dd)"
@@ -20,6 +24,23 @@ public class FindSlotsSchema {
             "duration_minutes", Map.of(
                 "type", "integer",
                 "description", "Required duration in minutes for the time slot"
+            ),
+            "working_hours_start", Map.of(
+                "type", "string",
+                "description", "Start of working hours in UTC (HH:mm, optional, defaults to no restriction)"
+            ),
+            "working_hours_end", Map.of(
+                "type", "string",
+                "description", "End of working hours in UTC (HH:mm, optional, defaults to no restriction)"
+            ),
+            "include_weekends", Map.of(
+                "type", "boolean",
+                "description", "Whether Saturday and Sunday slots are returned (optional, defaults to true)"
+            ),
+            "participants", Map.of(
+                "type", "array",
+                "items", Map.of("type", "string"),
+                "description", "Email addresses whose free/busy must also be free (optional)"
             )
         );
 
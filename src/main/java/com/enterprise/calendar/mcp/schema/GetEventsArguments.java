@@ -0,0 +1,44 @@
+package com.enterprise.calendar.mcp.schema;
+
+import com.enterprise.calendar.model.calendar.EventField;
+import com.enterprise.calendar.util.DateUtils;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+// fields is null when every field is requested
+public record GetEventsArguments(
+    String mailbox,
+    String startDate,
+    String endDate,
+    Set<EventField> fields,
+    boolean compact
+) implements ToolArguments {
+
+    public static final ArgumentBinder<GetEventsArguments> BINDER =
+        ArgumentBinder.compile(GetEventsSchema.create(), GetEventsArguments::from);
+
+    private static GetEventsArguments from(ArgumentBinder.Values values) {
+        String startDate = values.string("start_date");
+        String endDate = values.string("end_date");
+        DateUtils.validateDateRange(startDate, endDate);
+
+        List<String> fieldNames = values.strings("fields");
+        Set<EventField> fields = null;
+        if (fieldNames != null) {
+            fields = EnumSet.noneOf(EventField.class);
+            for (String name : fieldNames) {
+                fields.add(EventField.fromFieldName(name));
+            }
+        }
+
+        return new GetEventsArguments(
+            ToolArguments.mailboxOf(values),
+            startDate,
+            endDate,
+            fields,
+            "compact".equals(values.string("format"))
+        );
+    }
+}
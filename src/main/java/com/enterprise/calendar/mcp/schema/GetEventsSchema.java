@@ -1,5 +1,6 @@
 package com.enterprise.calendar.mcp.schema;
 
+import com.enterprise.calendar.model.calendar.EventField;
 import io.modelcontextprotocol.spec.McpSchema;
 
 import java.util.List;
@@ -9,6 +10,10 @@ public class GetEventsSchema {
 
     public static McpSchema.JsonSchema create() {
         Map<String, Object> properties = Map.of(
+            "mailbox", Map.of(
+                "type", "string",
+                "description", "User id or email address of the calendar owner (optional, defaults to the service account)"
+            ),
             "start_date", Map.of(
                 "type", "string",
                 "description", "Start date in ISO8601 format (yyyy-MM-dd)"
@@ -16,6 +21,20 @@ public class GetEventsSchema {
             "end_date", Map.of(
                 "type", "string",
                 "description", "End date in ISO8601 format (yyyy-MM-dd)"
+            ),
+            "fields", Map.of(
+                "type", "array",
+                "items", Map.of(
+                    "type", "string",
+                    "enum", List.of(EventField.fieldNames())
+                ),
+                "description", "Event fields to return (optional, defaults to all fields)"
+            ),
+            "format", Map.of(
+                "type", "string",
+                "enum", List.of("json", "compact"),
+                "description", "Output format (optional, defaults to json). compact returns one array per field, "
+                    + "string fields as indexes into 'strings', start as an offset from 'origin' and end as the event length, both in 'unit'"
             )
         );
 
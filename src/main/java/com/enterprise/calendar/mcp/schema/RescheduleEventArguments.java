@@ -0,0 +1,42 @@
+package com.enterprise.calendar.mcp.schema;
+
+import com.enterprise.calendar.util.DateUtils;
+
+import java.time.OffsetDateTime;
+
+// etag is null when the change is not based on a version the caller read
+public record RescheduleEventArguments(
+    String mailbox,
+    String eventId,
+    OffsetDateTime newStart,
+    OffsetDateTime newEnd,
+    String etag,
+    boolean allowConflicts
+) implements ToolArguments {
+
+    public static final ArgumentBinder<RescheduleEventArguments> BINDER =
+        ArgumentBinder.compile(RescheduleEventSchema.create(), RescheduleEventArguments::from);
+
+    private static RescheduleEventArguments from(ArgumentBinder.Values values) {
+        String eventId = values.string("event_id");
+        if (eventId.isBlank()) {
+            throw new IllegalArgumentException("event_id must not be blank");
+        }
+
+        OffsetDateTime newStart = DateUtils.parseDateTime(values.string("new_start_datetime"));
+        OffsetDateTime newEnd = DateUtils.parseDateTime(values.string("new_end_datetime"));
+        if (!newEnd.isAfter(newStart)) {
+            throw new IllegalArgumentException("new_end_datetime must be after new_start_datetime");
+        }
+
+        String etag = values.string("etag");
+        return new RescheduleEventArguments(
+            ToolArguments.mailboxOf(values),
+            eventId,
+            newStart,
+            newEnd,
+            etag != null && !etag.isBlank() ? etag : null,
+            Boolean.TRUE.equals(values.bool("allow_conflicts"))
+        );
+    }
+}
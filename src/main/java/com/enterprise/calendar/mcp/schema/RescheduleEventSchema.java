@@ -9,17 +9,29 @@ public class RescheduleEventSchema {
 
     public static McpSchema.JsonSchema create() {
         Map<String, Object> properties = Map.of(
+            "mailbox", Map.of(
+                "type", "string",
+                "description", "User id or email address of the calendar owner (optional, defaults to the service account)"
+            ),
             "event_id", Map.of(
                 "type", "string",
                 "description", "The ID of the event to reschedule"
             ),
             "new_start_datetime", Map.of(
                 "type", "string",
-                "description", "New start datetime in ISO8601 format (yyyy-MM-dd'T'HH:mm:ss)"
+                "description", "New start datetime in UTC, ISO8601 format (yyyy-MM-dd'T'HH:mm:ss)"
             ),
             "new_end_datetime", Map.of(
                 "type", "string",
-                "description", "New end datetime in ISO8601 format (yyyy-MM-dd'T'HH:mm:ss)"
+                "description", "New end datetime in UTC, ISO8601 format (yyyy-MM-dd'T'HH:mm:ss)"
+            ),
+            "etag", Map.of(
+                "type", "string",
+                "description", "Version of the event the change is based on; the call fails if the event changed since (optional)"
+            ),
+            "allow_conflicts", Map.of(
+                "type", "boolean",
+                "description", "Whether the event may be moved onto time that is already busy (optional, defaults to false)"
             )
         );
 
@@ -0,0 +1,23 @@
+package com.enterprise.calendar.mcp.schema;
+
+import com.enterprise.calendar.store.CalendarEventStore;
+
+/**
+ * Typed arguments of a tool call, bound by an {@link ArgumentBinder}.
+ */
+public interface ToolArguments {
+
+    // Calendar the call works on, also the bulkhead key
+    String mailbox();
+
+    static String mailboxOf(ArgumentBinder.Values values) {
+        String mailbox = values.string("mailbox");
+        if (mailbox == null) {
+            return CalendarEventStore.DEFAULT_MAILBOX;
+        }
+        if (mailbox.isBlank()) {
+            throw new IllegalArgumentException("mailbox must be a user id or email address");
+        }
+        return mailbox.trim();
+    }
+}
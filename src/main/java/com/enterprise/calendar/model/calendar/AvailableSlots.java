@@ -0,0 +1,9 @@
+package com.enterprise.calendar.model.calendar;
+
+import java.util.List;
+
+// unresolvedParticipants could not be checked, e.g. no free/busy access, so slots may clash with their calendars
+public record AvailableSlots(
+    List<TimeSlot> slots,
+    List<String> unresolvedParticipants
+) {}
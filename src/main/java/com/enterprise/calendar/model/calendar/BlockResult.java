@@ -0,0 +1,12 @@
+package com.enterprise.calendar.model.calendar;
+
+import java.time.OffsetDateTime;
+
+// eventId is set when the block was created, error when it was not
+public record BlockResult(
+    OffsetDateTime start,
+    OffsetDateTime end,
+    boolean blocked,
+    String eventId,
+    String error
+) {}
@@ -0,0 +1,60 @@
+package com.enterprise.calendar.model.calendar;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Fields of {@link CalendarEvent} with the Graph event property each one is read from.
+ */
+public enum EventField {
+
+    ID("id", "id", CalendarEvent::id),
+    SUBJECT("subject", "subject", CalendarEvent::subject),
+    START("start", "start", CalendarEvent::start),
+    END("end", "end", CalendarEvent::end),
+    LOCATION("location", "location", CalendarEvent::location),
+    ORGANIZER_NAME("organizerName", "organizer", CalendarEvent::organizerName),
+    ORGANIZER_EMAIL("organizerEmail", "organizer", CalendarEvent::organizerEmail),
+    IS_ALL_DAY("isAllDay", "isAllDay", CalendarEvent::isAllDay);
+
+    private final String fieldName;
+    private final String graphProperty;
+    private final Function<CalendarEvent, Object> accessor;
+
+    EventField(String fieldName, String graphProperty, Function<CalendarEvent, Object> accessor) {
+        this.fieldName = fieldName;
+        this.graphProperty = graphProperty;
+        this.accessor = accessor;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public Object valueOf(CalendarEvent event) {
+        return accessor.apply(event);
+    }
+
+    public static EventField fromFieldName(String name) {
+        for (EventField field : values()) {
+            if (field.fieldName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown event field: " + name);
+    }
+
+    public static String[] graphSelect(Collection<EventField> fields) {
+        return fields.stream()
+            .map(field -> field.graphProperty)
+            .distinct()
+            .toArray(String[]::new);
+    }
+
+    public static String[] fieldNames() {
+        return Arrays.stream(values())
+            .map(EventField::fieldName)
+            .toArray(String[]::new);
+    }
+}
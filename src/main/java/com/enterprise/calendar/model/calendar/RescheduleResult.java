@@ -0,0 +1,44 @@
+package com.enterprise.calendar.model.calendar;
+
+import java.util.List;
+
+/**
+ * Outcome of a reschedule_event call.
+ * <p>
+ * {@code event} and {@code etag} are the rescheduled event, or on {@code ETAG_MISMATCH} its current
+ * version, whose etag can be sent to retry. {@code conflicts} lists the events overlapping the new
+ * time on {@code CONFLICT}.
+ */
+public record RescheduleResult(
+    Status status,
+    CalendarEvent event,
+    String etag,
+    List<CalendarEvent> conflicts,
+    String message
+) {
+
+    public enum Status {
+        RESCHEDULED,
+        CONFLICT,
+        ETAG_MISMATCH,
+        NOT_FOUND
+    }
+
+    public static RescheduleResult rescheduled(CalendarEvent event, String etag) {
+        return new RescheduleResult(Status.RESCHEDULED, event, etag, List.of(), null);
+    }
+
+    public static RescheduleResult conflict(List<CalendarEvent> conflicts) {
+        return new RescheduleResult(Status.CONFLICT, null, null, conflicts,
+            "The new time overlaps " + conflicts.size() + " event(s); pick another time or set allow_conflicts");
+    }
+
+    public static RescheduleResult etagMismatch(CalendarEvent current, String etag) {
+        return new RescheduleResult(Status.ETAG_MISMATCH, current, etag, List.of(),
+            "The event was changed since its etag was read; review the current version and retry with its etag");
+    }
+
+    public static RescheduleResult notFound(String eventId) {
+        return new RescheduleResult(Status.NOT_FOUND, null, null, List.of(), "Event " + eventId + " not found");
+    }
+}
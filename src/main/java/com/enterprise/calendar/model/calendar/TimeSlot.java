@@ -0,0 +1,9 @@
+package com.enterprise.calendar.model.calendar;
+
+import java.time.OffsetDateTime;
+
+public record TimeSlot(
+    OffsetDateTime start,
+    OffsetDateTime end,
+    long durationMinutes
+) {}
@@ -0,0 +1,19 @@
+package com.enterprise.calendar.model.calendar;
+
+import java.time.LocalTime;
+
+// An end of midnight (LocalTime.MIN) means working hours run until the end of the day
+public record WorkingHours(
+    LocalTime start,
+    LocalTime end,
+    boolean includeWeekends
+) {
+
+    public static WorkingHours anyTime() {
+        return new WorkingHours(LocalTime.MIN, LocalTime.MIN, true);
+    }
+
+    public boolean isUnrestricted() {
+        return start.equals(LocalTime.MIN) && end.equals(LocalTime.MIN) && includeWeekends;
+    }
+}
@@ -0,0 +1,135 @@
+package com.enterprise.calendar.service;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-granularity free/busy bitmap over a time range; bit {@code i} is set when the
+ * {@code i}-th slot of {@code granularity} minutes is free.
+ * <p>
+ * Participants are intersected word by word with {@link #and(AvailabilityBitmap)}, so combining
+ * calendars costs O(range / 64) per participant regardless of how many events they have.
+ */
+public final class AvailabilityBitmap {
+
+    private static final char FREE = '0';
+
+    private final long[] words;
+    private final int slots;
+
+    private AvailabilityBitmap(int slots) {
+        this.slots = slots;
+        this.words = new long[(slots + 63) >>> 6];
+    }
+
+    public static AvailabilityBitmap fromAvailabilityView(String availabilityView, int slots) {
+        AvailabilityBitmap bitmap = new AvailabilityBitmap(slots);
+        int length = Math.min(availabilityView.length(), slots);
+        for (int i = 0; i < length; i++) {
+            if (availabilityView.charAt(i) == FREE) {
+                bitmap.words[i >>> 6] |= 1L << i;
+            }
+        }
+        return bitmap;
+    }
+
+    public static AvailabilityBitmap fromFreeSlots(long[] freeSlots, long rangeStart, int granularity, int slots) {
+        AvailabilityBitmap bitmap = new AvailabilityBitmap(slots);
+        for (int i = 0; i < freeSlots.length; i += 2) {
+            long first = Math.ceilDiv(freeSlots[i] - rangeStart, granularity);
+            long last = Math.floorDiv(freeSlots[i + 1] - rangeStart, granularity);
+            bitmap.setRange((int) Math.max(first, 0), (int) Math.min(last, slots));
+        }
+        return bitmap;
+    }
+
+    public void and(AvailabilityBitmap other) {
+        if (other.slots != slots) {
+            throw new IllegalArgumentException("Bitmaps must cover the same number of slots");
+        }
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+    }
+
+    /**
+     * Returns runs of at least {@code minSlots} free slots as packed {@code [start, end]} epoch-minute pairs.
+     */
+    public long[] freeRuns(long rangeStart, int granularity, int minSlots) {
+        long[] runs = new long[16];
+        int size = 0;
+
+        int from = nextSetBit(0);
+        while (from >= 0) {
+            int to = nextClearBit(from);
+            if (to - from >= minSlots) {
+                if (size + 2 > runs.length) {
+                    runs = Arrays.copyOf(runs, runs.length * 2);
+                }
+                runs[size++] = rangeStart + (long) from * granularity;
+                runs[size++] = rangeStart + (long) to * granularity;
+            }
+            from = nextSetBit(to);
+        }
+
+        return Arrays.copyOf(runs, size);
+    }
+
+    public int slots() {
+        return slots;
+    }
+
+    private void setRange(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int startWord = from >>> 6;
+        int endWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+
+        if (startWord == endWord) {
+            words[startWord] |= firstMask & lastMask;
+            return;
+        }
+        words[startWord] |= firstMask;
+        for (int i = startWord + 1; i < endWord; i++) {
+            words[i] = -1L;
+        }
+        words[endWord] |= lastMask;
+    }
+
+    private int nextSetBit(int from) {
+        if (from >= slots) {
+            return -1;
+        }
+        int index = from >>> 6;
+        long word = words[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int bit = (index << 6) + Long.numberOfTrailingZeros(word);
+                return bit < slots ? bit : -1;
+            }
+            if (++index == words.length) {
+                return -1;
+            }
+            word = words[index];
+        }
+    }
+
+    private int nextClearBit(int from) {
+        if (from >= slots) {
+            return slots;
+        }
+        int index = from >>> 6;
+        long word = ~words[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return Math.min((index << 6) + Long.numberOfTrailingZeros(word), slots);
+            }
+            if (++index == words.length) {
+                return slots;
+            }
+            word = ~words[index];
+        }
+    }
+}
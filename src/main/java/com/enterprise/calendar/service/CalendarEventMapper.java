@@ -1,14 +1,28 @@
 package com.enterprise.calendar.service;
 
 import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.model.calendar.EventField;
+import com.enterprise.calendar.model.calendar.TimeSlot;
+import com.enterprise.calendar.util.GraphDateTimeParser;
+import com.microsoft.graph.models.BodyType;
+import com.microsoft.graph.models.DateTimeTimeZone;
 import com.microsoft.graph.models.Event;
+import com.microsoft.graph.models.FreeBusyStatus;
+import com.microsoft.graph.models.ItemBody;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
 
 @Component
 public class CalendarEventMapper {
 
+    // Graph properties read by toCalendarEvent; everything else (body, attendees, ...) is left out of $select
+    public static final String[] GRAPH_SELECT = EventField.graphSelect(EnumSet.allOf(EventField.class));
+
     public CalendarEvent toCalendarEvent(Event event) {
         return new CalendarEvent(
             event.getId(),
@@ -22,17 +36,38 @@ public class CalendarEventMapper {
         );
     }
 
-    private OffsetDateTime parseDateTime(com.microsoft.graph.models.DateTimeTimeZone dateTime) {
-        if (dateTime == null || dateTime.getDateTime() == null) {
-            return null;
+    // Graph deduplicates creations by transactionId, which makes resending the same block safe
+    public Event toBlockingEvent(TimeSlot block, String subject, String description, String transactionId) {
+        Event event = new Event();
+        event.setSubject(subject);
+        event.setStart(toDateTimeTimeZone(block.start()));
+        event.setEnd(toDateTimeTimeZone(block.end()));
+        event.setShowAs(FreeBusyStatus.Oof);
+        event.setIsReminderOn(false);
+        event.setTransactionId(transactionId);
+        if (description != null) {
+            ItemBody body = new ItemBody();
+            body.setContentType(BodyType.Text);
+            body.setContent(description);
+            event.setBody(body);
         }
+        return event;
+    }
 
-        String dateTimeString = dateTime.getDateTime();
-        if (dateTimeString.contains(".")) {
-            dateTimeString = dateTimeString.substring(0, dateTimeString.indexOf('.'));
+    static DateTimeTimeZone toDateTimeTimeZone(OffsetDateTime dateTime) {
+        var value = new DateTimeTimeZone();
+        value.setDateTime(dateTime.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        value.setTimeZone("UTC");
+        return value;
+    }
+
+    private OffsetDateTime parseDateTime(DateTimeTimeZone dateTime) {
+        if (dateTime == null || dateTime.getDateTime() == null) {
+            return null;
         }
 
-        return OffsetDateTime.parse(dateTimeString + "Z");
+        long epochSecond = GraphDateTimeParser.toEpochSecond(dateTime.getDateTime(), GraphDateTimeParser.rulesFor(dateTime.getTimeZone()));
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
     }
 
     private String getLocationName(Event event) {
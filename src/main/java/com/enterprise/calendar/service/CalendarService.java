@@ -1,12 +1,36 @@
 package com.enterprise.calendar.service;
 
+import com.enterprise.calendar.config.CalendarStoreProperties;
+import com.enterprise.calendar.config.GraphProperties;
+import com.enterprise.calendar.exception.EventChangedException;
+import com.enterprise.calendar.exception.EventNotFoundException;
+import com.enterprise.calendar.model.calendar.AvailableSlots;
+import com.enterprise.calendar.model.calendar.BlockResult;
 import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.model.calendar.RescheduleResult;
+import com.enterprise.calendar.model.calendar.TimeSlot;
+import com.enterprise.calendar.model.calendar.WorkingHours;
+import com.enterprise.calendar.util.DateUtils;
 import com.microsoft.graph.models.Event;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -15,14 +39,236 @@ public class CalendarService {
 
     private final GraphAPIService graphAPIService;
     private final CalendarEventMapper mapper;
+    private final CalendarSyncService syncService;
+    private final CalendarStoreProperties storeProperties;
+    private final SlotFinder slotFinder;
+    private final GraphProperties graphProperties;
+    private final InFlightEventRequests inFlightRequests;
+    private final Tracer tracer;
 
-    public List<CalendarEvent> getEvents(String startDate, String endDate) {
-        log.debug("Getting calendar events from {} to {}", startDate, endDate);
+    public List<CalendarEvent> getEvents(String mailbox, String startDate, String endDate) {
+        List<CalendarEvent> events = new ArrayList<>();
+        streamEvents(mailbox, startDate, endDate, events::addAll);
+        return events;
+    }
+
+    public void streamEvents(String mailbox, String startDate, String endDate, Consumer<List<CalendarEvent>> pageConsumer) {
+        log.debug("Getting calendar events of {} from {} to {}", mailbox, startDate, endDate);
+
+        traced("calendar.events", span -> {
+            span.tag("calendar.source", storeProperties.isEnabled() ? "store" : "graph");
+            if (storeProperties.isEnabled()) {
+                pageConsumer.accept(syncService.getEvents(mailbox, startDate, endDate));
+                return null;
+            }
+
+            DateUtils.validateDateRange(startDate, endDate);
+            inFlightRequests.execute(
+                mailbox,
+                DateUtils.parseStartOfDay(startDate),
+                DateUtils.parseEndOfDay(endDate),
+                pageConsumer,
+                fetchConsumer -> graphAPIService.streamEvents(mailbox, startDate, endDate, page -> fetchConsumer.accept(
+                    traced("calendar.map", mapSpan -> {
+                        mapSpan.tag("calendar.events.count", page.size());
+                        return page.stream()
+                            .map(mapper::toCalendarEvent)
+                            .toList();
+                    })
+                ))
+            );
+            return null;
+        });
+    }
+
+    public AvailableSlots findAvailableSlots(String mailbox, String startDate, String endDate, int durationMinutes,
+                                             WorkingHours workingHours, List<String> participants) {
+        log.debug("Finding {} minute slots of {} from {} to {} for {} participants",
+            durationMinutes, mailbox, startDate, endDate, participants.size());
+
+        return traced("calendar.slots", span -> {
+            span.tag("calendar.participants.count", participants.size());
+            AvailableSlots result = findSlots(mailbox, startDate, endDate, durationMinutes, workingHours, participants);
+            span.tag("calendar.participants.unresolved", result.unresolvedParticipants().size());
+            return result;
+        });
+    }
+
+    /**
+     * Creates an Out of Office event per block, all in one round of {@code $batch} calls.
+     * <p>
+     * Each event's transactionId is derived from the mailbox, the idempotency key, the block and the
+     * subject, so calling again with the same arguments after a failure or timeout only creates the
+     * blocks that are still missing.
+     */
+    public List<BlockResult> blockDates(String mailbox, List<TimeSlot> blocks, String subject, String description,
+                                        String idempotencyKey) {
+        log.debug("Blocking {} time slots of {}", blocks.size(), mailbox);
+
+        return traced("calendar.block", span -> {
+            span.tag("calendar.blocks.count", blocks.size());
+            List<Event> events = blocks.stream()
+                .map(block -> mapper.toBlockingEvent(block, subject, description,
+                    transactionId(mailbox, idempotencyKey, block, subject)))
+                .toList();
+            List<EventCreation> creations = graphAPIService.createEvents(mailbox, events);
+
+            List<BlockResult> results = new ArrayList<>(blocks.size());
+            for (int i = 0; i < blocks.size(); i++) {
+                TimeSlot block = blocks.get(i);
+                EventCreation creation = creations.get(i);
+                if (!creation.isCreated()) {
+                    results.add(new BlockResult(block.start(), block.end(), false, null, creation.error()));
+                    continue;
+                }
+                if (storeProperties.isEnabled()) {
+                    syncService.applyLocalChange(mailbox, mapper.toCalendarEvent(creation.created()));
+                }
+                results.add(new BlockResult(block.start(), block.end(), true, creation.created().getId(), null));
+            }
+            return results;
+        });
+    }
+
+    /**
+     * Moves an event with optimistic concurrency: Graph only applies the change while the event is still
+     * at {@code etag}, or at the version read right before the update when no etag is given.
+     * <p>
+     * With the event store enabled, the new time is first checked against the events the store already
+     * holds, so a clash is reported without any Graph round trip. Windows not synced yet are not checked.
+     */
+    public RescheduleResult rescheduleEvent(String mailbox, String eventId, OffsetDateTime start, OffsetDateTime end,
+                                            String etag, boolean allowConflicts) {
+        log.debug("Rescheduling event {} of {} to {} - {}", eventId, mailbox, start, end);
+
+        return traced("calendar.reschedule", span -> {
+            RescheduleResult result = reschedule(mailbox, eventId, start, end, etag, allowConflicts);
+            span.tag("calendar.reschedule.status", result.status().name());
+            return result;
+        });
+    }
+
+    private RescheduleResult reschedule(String mailbox, String eventId, OffsetDateTime start, OffsetDateTime end,
+                                        String etag, boolean allowConflicts) {
+        if (storeProperties.isEnabled() && !allowConflicts) {
+            List<CalendarEvent> conflicts = syncService.getHeldEvents(mailbox, start, end).stream()
+                .filter(event -> !event.id().equals(eventId))
+                .filter(event -> event.start().isBefore(end) && event.end().isAfter(start))
+                .toList();
+            if (!conflicts.isEmpty()) {
+                log.info("Rejected rescheduling event {}: {} local conflicts", eventId, conflicts.size());
+                return RescheduleResult.conflict(conflicts);
+            }
+        }
+
+        try {
+            String ifMatch = etag != null ? etag : GraphAPIService.etagOf(graphAPIService.getEvent(mailbox, eventId));
+            Event updated = graphAPIService.rescheduleEvent(mailbox, eventId, start, end, ifMatch);
+            CalendarEvent event = mapper.toCalendarEvent(updated);
+            if (storeProperties.isEnabled()) {
+                syncService.applyLocalChange(mailbox, event);
+            }
+            return RescheduleResult.rescheduled(event, GraphAPIService.etagOf(updated));
+        } catch (EventChangedException e) {
+            return currentVersion(mailbox, eventId);
+        } catch (EventNotFoundException e) {
+            return RescheduleResult.notFound(eventId);
+        }
+    }
 
-        List<Event> graphEvents = graphAPIService.getEvents(startDate, endDate);
+    private RescheduleResult currentVersion(String mailbox, String eventId) {
+        try {
+            Event current = graphAPIService.getEvent(mailbox, eventId);
+            return RescheduleResult.etagMismatch(mapper.toCalendarEvent(current), GraphAPIService.etagOf(current));
+        } catch (EventNotFoundException e) {
+            return RescheduleResult.notFound(eventId);
+        }
+    }
+
+    static String transactionId(String mailbox, String idempotencyKey, TimeSlot block, String subject) {
+        String name = String.join("\n",
+            mailbox.toLowerCase(Locale.ROOT),
+            idempotencyKey != null ? idempotencyKey : "",
+            block.start().toInstant().toString(),
+            block.end().toInstant().toString(),
+            subject);
+        return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private AvailableSlots findSlots(String mailbox, String startDate, String endDate, int durationMinutes,
+                                     WorkingHours workingHours, List<String> participants) {
+        List<CalendarEvent> events = getEvents(mailbox, startDate, endDate);
+
+        long[] busyStarts = new long[events.size()];
+        long[] busyEnds = new long[events.size()];
+        int count = 0;
+        for (CalendarEvent event : events) {
+            if (event.start() != null && event.end() != null) {
+                busyStarts[count] = toEpochMinute(event.start());
+                busyEnds[count] = Math.ceilDiv(event.end().toEpochSecond(), 60L);
+                count++;
+            }
+        }
+
+        OffsetDateTime rangeStart = DateUtils.parseStartOfDay(startDate);
+        OffsetDateTime rangeEnd = DateUtils.parseEndOfDay(endDate).plusSeconds(1);
+        long[] free = slotFinder.findFreeSlots(
+            Arrays.copyOf(busyStarts, count),
+            Arrays.copyOf(busyEnds, count),
+            toEpochMinute(rangeStart),
+            toEpochMinute(rangeEnd),
+            durationMinutes,
+            workingHours
+        );
+
+        List<String> unresolved = List.of();
+        if (!participants.isEmpty()) {
+            int granularity = graphProperties.getSchedule().getIntervalMinutes();
+            Map<String, String> views = graphAPIService.getAvailabilityViews(mailbox, participants, rangeStart, rangeEnd, granularity);
+            unresolved = participants.stream()
+                .filter(participant -> !views.containsKey(participant))
+                .toList();
+            if (!unresolved.isEmpty()) {
+                log.warn("Free/busy of {} of {} participants could not be resolved", unresolved.size(), participants.size());
+            }
+            free = intersectWithParticipants(free, views.values(), rangeStart, rangeEnd, durationMinutes, granularity);
+        }
+
+        List<TimeSlot> slots = new ArrayList<>(free.length / 2);
+        for (int i = 0; i < free.length; i += 2) {
+            slots.add(new TimeSlot(fromEpochMinute(free[i]), fromEpochMinute(free[i + 1]), free[i + 1] - free[i]));
+        }
+        return new AvailableSlots(slots, unresolved);
+    }
+
+    private long[] intersectWithParticipants(long[] organizerFree, Collection<String> views, OffsetDateTime rangeStart,
+                                             OffsetDateTime rangeEnd, int durationMinutes, int granularity) {
+        long startMinute = toEpochMinute(rangeStart);
+        int slots = (int) Math.ceilDiv(toEpochMinute(rangeEnd) - startMinute, granularity);
+
+        AvailabilityBitmap common = AvailabilityBitmap.fromFreeSlots(organizerFree, startMinute, granularity, slots);
+        views.forEach(view -> common.and(AvailabilityBitmap.fromAvailabilityView(view, slots)));
+
+        return common.freeRuns(startMinute, granularity, (int) Math.ceilDiv(durationMinutes, granularity));
+    }
+
+    private <T> T traced(String name, Function<Span, T> work) {
+        Span span = tracer.nextSpan().name(name).start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            return work.apply(span);
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static long toEpochMinute(OffsetDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(), 60L);
+    }
 
-        return graphEvents.stream()
-            .map(mapper::toCalendarEvent)
-            .toList();
+    private static OffsetDateTime fromEpochMinute(long epochMinute) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochMinute * 60L), ZoneOffset.UTC);
     }
 }
@@ -0,0 +1,81 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.config.CalendarStoreProperties;
+import com.enterprise.calendar.store.CalendarEventStore;
+import com.enterprise.calendar.store.CalendarSnapshot;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the synced windows of {@link CalendarEventStore} across restarts.
+ * <p>
+ * On startup the last snapshot is mapped and handed to the store, which restores each window
+ * with its delta link when it is first requested, so the next sync only fetches changes made
+ * since the snapshot. The store is written back every {@code snapshot.interval} and on shutdown.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CalendarSnapshotService {
+
+    private final CalendarEventStore store;
+    private final CalendarStoreProperties properties;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("calendar-snapshot").daemon().factory());
+
+    @PostConstruct
+    public void start() {
+        Path path = properties.getSnapshot().getPath();
+        if (!properties.isEnabled() || path == null) {
+            return;
+        }
+
+        if (Files.exists(path)) {
+            try {
+                CalendarSnapshot snapshot = CalendarSnapshot.open(path, notSyncedBefore());
+                store.restoreFrom(snapshot);
+                log.info("Opened calendar snapshot {} written at {} with {} windows",
+                    path, snapshot.writtenAt(), snapshot.pendingWindows());
+            } catch (IOException e) {
+                log.warn("Ignoring calendar snapshot {}: {}", path, e.getMessage());
+            }
+        }
+
+        long intervalMillis = properties.getSnapshot().getInterval().toMillis();
+        writer.scheduleWithFixedDelay(this::write, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdownNow();
+        if (properties.isEnabled() && properties.getSnapshot().getPath() != null) {
+            write();
+        }
+    }
+
+    synchronized void write() {
+        Path path = properties.getSnapshot().getPath();
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            int windows = store.writeSnapshot(path, notSyncedBefore());
+            log.debug("Wrote calendar snapshot {} with {} windows", path, windows);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to write calendar snapshot {}", path, e);
+        }
+    }
+
+    private Instant notSyncedBefore() {
+        return Instant.now().minus(properties.getSnapshot().getMaxAge());
+    }
+}
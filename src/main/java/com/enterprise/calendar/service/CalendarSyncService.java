@@ -0,0 +1,82 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.config.CalendarStoreProperties;
+import com.enterprise.calendar.exception.DeltaTokenExpiredException;
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.store.CalendarEventStore;
+import com.enterprise.calendar.store.SyncWindow;
+import com.enterprise.calendar.util.DateUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CalendarSyncService {
+
+    private final GraphAPIService graphAPIService;
+    private final CalendarEventMapper mapper;
+    private final CalendarEventStore store;
+    private final CalendarStoreProperties properties;
+
+    public List<CalendarEvent> getEvents(String mailbox, String startDate, String endDate) {
+        DateUtils.validateDateRange(startDate, endDate);
+
+        OffsetDateTime start = DateUtils.parseStartOfDay(startDate);
+        OffsetDateTime end = DateUtils.parseEndOfDay(endDate);
+
+        for (YearMonth month = YearMonth.from(start); !month.isAfter(YearMonth.from(end)); month = month.plusMonths(1)) {
+            sync(mailbox, store.window(mailbox, month));
+        }
+
+        return store.query(mailbox, start, end);
+    }
+
+    // What the store already holds, without syncing; windows never synced contribute nothing
+    public List<CalendarEvent> getHeldEvents(String mailbox, OffsetDateTime start, OffsetDateTime end) {
+        return store.query(mailbox, start, end);
+    }
+
+    public void applyLocalChange(String mailbox, CalendarEvent event) {
+        store.applyLocalChange(mailbox, event);
+    }
+
+    private void sync(String mailbox, SyncWindow window) {
+        if (window.isFresh(Instant.now(), properties.getRefreshInterval())) {
+            return;
+        }
+
+        window.getSyncLock().lock();
+        try {
+            // Another caller may have synced the window while we were waiting for the lock
+            if (window.isFresh(Instant.now(), properties.getRefreshInterval())) {
+                return;
+            }
+
+            EventDelta delta;
+            try {
+                delta = graphAPIService.getEventsDelta(mailbox, window.start(), window.end(), window.getDeltaLink());
+            } catch (DeltaTokenExpiredException e) {
+                log.info("Resyncing window {} for mailbox {} after delta token expiry", window.getMonth(), mailbox);
+                window.reset();
+                delta = graphAPIService.getEventsDelta(mailbox, window.start(), window.end(), null);
+            }
+
+            List<CalendarEvent> changed = delta.changed().stream()
+                .map(mapper::toCalendarEvent)
+                .toList();
+            window.applyDelta(changed, delta.removedIds(), delta.deltaLink(), Instant.now());
+
+            log.debug("Synced window {} for mailbox {}: {} changed, {} removed",
+                window.getMonth(), mailbox, changed.size(), delta.removedIds().size());
+        } finally {
+            window.getSyncLock().unlock();
+        }
+    }
+}
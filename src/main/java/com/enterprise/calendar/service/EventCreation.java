@@ -0,0 +1,19 @@
+package com.enterprise.calendar.service;
+
+import com.microsoft.graph.models.Event;
+
+// Outcome of one event creation; created is null when it failed
+public record EventCreation(
+    int statusCode,
+    Event created,
+    String error
+) {
+
+    public static EventCreation failed(int statusCode, String error) {
+        return new EventCreation(statusCode, null, error);
+    }
+
+    public boolean isCreated() {
+        return created != null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.enterprise.calendar.service;
+
+import com.microsoft.graph.models.Event;
+
+import java.util.List;
+
+public record EventDelta(
+    List<Event> changed,
+    List<String> removedIds,
+    String deltaLink
+) {}
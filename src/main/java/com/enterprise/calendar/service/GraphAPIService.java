@@ -1,56 +1,571 @@
 package com.enterprise.calendar.service;
 
+import com.enterprise.calendar.config.GraphProperties;
+import com.enterprise.calendar.exception.BatchStepException;
+import com.enterprise.calendar.exception.DeltaTokenExpiredException;
+import com.enterprise.calendar.exception.EventChangedException;
+import com.enterprise.calendar.exception.EventNotFoundException;
 import com.enterprise.calendar.exception.GraphAPIException;
+import com.enterprise.calendar.service.GraphBatchClient.BatchStep;
+import com.enterprise.calendar.service.GraphBatchClient.BatchStepResult;
+import com.enterprise.calendar.service.GraphThrottleController.Admission;
 import com.enterprise.calendar.util.DateUtils;
 import com.microsoft.graph.models.Event;
+import com.microsoft.graph.models.EventCollectionResponse;
+import com.microsoft.graph.models.ScheduleInformation;
+import com.microsoft.graph.models.odataerrors.MainError;
 import com.microsoft.graph.models.odataerrors.ODataError;
 import com.microsoft.graph.serviceclient.GraphServiceClient;
+import com.microsoft.graph.users.item.calendar.getschedule.GetSchedulePostRequestBody;
+import com.microsoft.graph.users.item.calendarview.CalendarViewRequestBuilder;
+import com.microsoft.graph.users.item.calendarview.delta.DeltaGetResponse;
+import com.microsoft.graph.users.item.calendarview.delta.DeltaRequestBuilder;
+import com.microsoft.kiota.RequestInformation;
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParsableFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GraphAPIService {
 
-    private final GraphServiceClient graphServiceClient;
+    // getSchedule rejects windows longer than 62 days
+    private static final int MAX_SCHEDULE_DAYS = 62;
+    private static final char BUSY = '2';
+    private static final int NOT_FOUND = 404;
+    private static final int PRECONDITION_FAILED = 412;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
 
-    public List<Event> getEvents(String startDate, String endDate) {
+    private final GraphClientRegistry clients;
+    private final GraphProperties properties;
+    private final GraphBatchExecutor batchExecutor;
+    private final GraphThrottleController throttleController;
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final ExecutorService pageFetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public List<Event> getEvents(String mailbox, String startDate, String endDate) {
+        List<Event> events = new ArrayList<>();
+        streamEvents(mailbox, startDate, endDate, events::addAll);
+        return events;
+    }
+
+    public void streamEvents(String mailbox, String startDate, String endDate, Consumer<List<Event>> pageConsumer) {
         DateUtils.validateDateRange(startDate, endDate);
 
         try {
-            log.debug("Fetching events from MS Graph: {} to {}", startDate, endDate);
+            log.debug("Fetching events of {} from MS Graph: {} to {}", mailbox, startDate, endDate);
 
             OffsetDateTime start = DateUtils.parseStartOfDay(startDate);
             OffsetDateTime end = DateUtils.parseEndOfDay(endDate);
 
-            var response = graphServiceClient.me()
-                .calendarView()
-                .get(config -> {
+            Consumer<CalendarViewRequestBuilder.GetRequestConfiguration> query = config -> {
+                if (config.queryParameters != null) {
+                    config.queryParameters.startDateTime = start.toString();
+                    config.queryParameters.endDateTime = end.toString();
+                    config.queryParameters.top = properties.getPaging().getPageSize();
+                    config.queryParameters.select = CalendarEventMapper.GRAPH_SELECT;
+                }
+            };
+
+            var calendarView = clients.user(mailbox).calendarView();
+            var response = batchExecutor.isEnabled()
+                ? batchedGraphCall(mailbox, "calendarView", calendarView.toGetRequestInformation(query),
+                    EventCollectionResponse::createFromDiscriminatorValue)
+                : graphCall(mailbox, "calendarView", () -> calendarView.get(query));
+
+            if (response == null || response.getValue() == null) {
+                log.warn("MS Graph returned null response for events");
+                return;
+            }
+
+            int total = consumePages(mailbox, response, pageConsumer);
+            log.info("Successfully fetched {} events from MS Graph", total);
+
+        } catch (ODataError e) {
+            log.error("MS Graph API error {}: {}", e.getResponseStatusCode(), e.getMessage(), e);
+            throw new GraphAPIException("Failed to fetch calendar events from MS Graph", e);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid date parameters: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    public EventDelta getEventsDelta(String mailbox, OffsetDateTime start, OffsetDateTime end, String deltaLink) {
+        try {
+            log.debug("Fetching event delta of {} from MS Graph: {} to {} (incremental: {})", mailbox, start, end, deltaLink != null);
+
+            var delta = clients.user(mailbox).calendarView().delta();
+            DeltaGetResponse page = deltaLink != null
+                ? fetchDeltaPage(mailbox, delta.withUrl(deltaLink), config -> config.headers.add("Prefer", maxPageSizePreference()))
+                : fetchDeltaPage(mailbox, delta, config -> {
                     if (config.queryParameters != null) {
                         config.queryParameters.startDateTime = start.toString();
                         config.queryParameters.endDateTime = end.toString();
                     }
+                    config.headers.add("Prefer", maxPageSizePreference());
                 });
 
-            if (response == null || response.getValue() == null) {
-                log.warn("MS Graph returned null response for events");
-                return List.of();
+            List<Event> changed = new ArrayList<>();
+            List<String> removedIds = new ArrayList<>();
+
+            while (page != null) {
+                if (page.getValue() != null) {
+                    for (Event event : page.getValue()) {
+                        if (isRemoved(event)) {
+                            removedIds.add(event.getId());
+                        } else {
+                            changed.add(event);
+                        }
+                    }
+                }
+
+                if (page.getOdataDeltaLink() != null) {
+                    log.info("Fetched event delta from MS Graph: {} changed, {} removed", changed.size(), removedIds.size());
+                    return new EventDelta(changed, removedIds, page.getOdataDeltaLink());
+                }
+                if (page.getOdataNextLink() == null) {
+                    break;
+                }
+
+                page = fetchDeltaPage(mailbox, delta.withUrl(page.getOdataNextLink()),
+                    config -> config.headers.add("Prefer", maxPageSizePreference()));
             }
 
-            log.info("Successfully fetched {} events from MS Graph", response.getValue().size());
-            return response.getValue();
+            throw new GraphAPIException("MS Graph delta response ended without a delta link");
 
         } catch (ODataError e) {
+            if (e.getResponseStatusCode() == 410) {
+                throw deltaTokenExpired(start, end, e);
+            }
+            log.error("MS Graph API error {}: {}", e.getResponseStatusCode(), e.getMessage(), e);
+            throw new GraphAPIException("Failed to fetch calendar event delta from MS Graph", e);
+        } catch (BatchStepException e) {
+            if (e.getStatusCode() == 410) {
+                throw deltaTokenExpired(start, end, e);
+            }
+            throw e;
+        }
+    }
+
+    private DeltaGetResponse fetchDeltaPage(String mailbox, DeltaRequestBuilder delta,
+                                            Consumer<DeltaRequestBuilder.GetRequestConfiguration> configuration) {
+        return batchExecutor.isEnabled()
+            ? batchedGraphCall(mailbox, "calendarView.delta", delta.toGetRequestInformation(configuration),
+                DeltaGetResponse::createFromDiscriminatorValue)
+            : graphCall(mailbox, "calendarView.delta", () -> delta.get(configuration));
+    }
+
+    private DeltaTokenExpiredException deltaTokenExpired(OffsetDateTime start, OffsetDateTime end, Exception cause) {
+        log.warn("Delta token expired for window {} to {}", start, end);
+        return new DeltaTokenExpiredException("Delta token expired, full resync required", cause);
+    }
+
+    /**
+     * Fetches the free/busy availability view of each schedule over {@code start} to {@code end}.
+     *
+     * @return the views by schedule, case-insensitively; schedules Graph could not resolve, or left out
+     * of its response, have no entry
+     */
+    public Map<String, String> getAvailabilityViews(String mailbox, List<String> schedules, OffsetDateTime start, OffsetDateTime end,
+                                                    int intervalMinutes) {
+        Map<String, StringBuilder> views = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        schedules.forEach(schedule -> views.put(schedule, new StringBuilder()));
+        Set<String> failed = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        int batchSize = Math.max(1, properties.getSchedule().getMaxSchedulesPerRequest());
+
+        try {
+            for (OffsetDateTime chunkStart = start; chunkStart.isBefore(end); chunkStart = chunkStart.plusDays(MAX_SCHEDULE_DAYS)) {
+                OffsetDateTime chunkEnd = chunkStart.plusDays(MAX_SCHEDULE_DAYS).isBefore(end) ? chunkStart.plusDays(MAX_SCHEDULE_DAYS) : end;
+                int expectedLength = (int) Math.ceilDiv(Duration.between(chunkStart, chunkEnd).toMinutes(), intervalMinutes);
+
+                for (int i = 0; i < schedules.size(); i += batchSize) {
+                    List<String> batch = schedules.subList(i, Math.min(i + batchSize, schedules.size()));
+                    log.debug("Fetching free/busy for {} schedules from MS Graph: {} to {}", batch.size(), chunkStart, chunkEnd);
+
+                    var body = new GetSchedulePostRequestBody();
+                    body.setSchedules(batch);
+                    body.setStartTime(CalendarEventMapper.toDateTimeTimeZone(chunkStart));
+                    body.setEndTime(CalendarEventMapper.toDateTimeTimeZone(chunkEnd));
+                    body.setAvailabilityViewInterval(intervalMinutes);
+
+                    var response = graphCall(mailbox, "getSchedule", () -> clients.user(mailbox).calendar().getSchedule().post(body));
+                    List<ScheduleInformation> infos = response != null && response.getValue() != null ? response.getValue() : List.of();
+
+                    Set<String> answered = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+                    for (ScheduleInformation info : infos) {
+                        StringBuilder view = views.get(info.getScheduleId());
+                        if (view == null) {
+                            continue;
+                        }
+                        answered.add(info.getScheduleId());
+                        if (info.getError() != null || info.getAvailabilityView() == null) {
+                            log.warn("Free/busy unavailable for {}: {}", info.getScheduleId(),
+                                info.getError() != null ? info.getError().getMessage() : "no availability view");
+                            failed.add(info.getScheduleId());
+                            continue;
+                        }
+                        view.append(info.getAvailabilityView(), 0, Math.min(info.getAvailabilityView().length(), expectedLength));
+                    }
+
+                    // Keep every view aligned to the chunk so later chunks land on the right slots
+                    for (String schedule : batch) {
+                        if (!answered.contains(schedule) && failed.add(schedule)) {
+                            log.warn("Free/busy unavailable for {}: missing from the getSchedule response", schedule);
+                        }
+                        StringBuilder view = views.get(schedule);
+                        int target = (int) Math.ceilDiv(Duration.between(start, chunkEnd).toMinutes(), intervalMinutes);
+                        while (view.length() < target) {
+                            view.append(BUSY);
+                        }
+                    }
+                }
+            }
+        } catch (ODataError e) {
+            log.error("MS Graph API error {}: {}", e.getResponseStatusCode(), e.getMessage(), e);
+            throw new GraphAPIException("Failed to fetch free/busy schedules from MS Graph", e);
+        }
+
+        Map<String, String> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        views.forEach((schedule, view) -> {
+            if (!failed.contains(schedule)) {
+                result.put(schedule, view.toString());
+            }
+        });
+        log.info("Fetched free/busy for {} of {} schedules from MS Graph", result.size(), schedules.size());
+        return result;
+    }
+
+    /**
+     * Creates {@code events} in the mailbox's default calendar through {@code $batch} calls of up to
+     * {@code microsoft.graph.batch.max-mailbox-writes} events, sent one after another. Each sub-request
+     * takes its own slot in the mailbox's concurrency limit, so a call carries no more events than the
+     * mailbox has slots free. Each call is settled on its own: a failed call only fails its events. Sub-requests that Graph throttles are resent, alone, after the throttle controller's
+     * back-off; every other outcome is final. Events should carry a transactionId, so a
+     * resent creation that Graph already carried out does not duplicate the event.
+     *
+     * @return one result per event, in the order of {@code events}
+     */
+    public List<EventCreation> createEvents(String mailbox, List<Event> events) {
+        log.debug("Creating {} events of {} in MS Graph", events.size(), mailbox);
+
+        GraphServiceClient client = clients.clientFor(mailbox);
+        var userEvents = clients.user(mailbox).events();
+        int chunkSize = Math.max(1, properties.getBatch().getMaxMailboxWrites());
+        EventCreation[] results = new EventCreation[events.size()];
+        for (int from = 0; from < events.size(); from += chunkSize) {
+            Map<Integer, BatchStep> pending = new LinkedHashMap<>();
+            for (int i = from; i < Math.min(from + chunkSize, events.size()); i++) {
+                pending.put(i, new BatchStep(userEvents.toPostRequestInformation(events.get(i)), Event::createFromDiscriminatorValue));
+            }
+            createPending(mailbox, client, pending, results);
+        }
+
+        log.info("Created {} of {} events in MS Graph", Arrays.stream(results).filter(EventCreation::isCreated).count(), events.size());
+        return List.of(results);
+    }
+
+    private void createPending(String mailbox, GraphServiceClient client, Map<Integer, BatchStep> pending,
+                               EventCreation[] results) {
+        try {
+            while (!pending.isEmpty()) {
+                admittedGraphCall(mailbox, "events.create", admission -> {
+                    sendPendingCreations(mailbox, client, pending, results, admission);
+                    return null;
+                });
+            }
+        } catch (ODataError e) {
+            log.error("MS Graph API error {}: {}", e.getResponseStatusCode(), e.getMessage(), e);
+            pending.keySet().forEach(i -> results[i] = EventCreation.failed(e.getResponseStatusCode(), e.getMessage()));
+        } catch (BatchStepException e) {
+            log.warn("{} event creations of {} still throttled after the last retry", pending.size(), mailbox);
+            pending.keySet().forEach(i -> results[i] = EventCreation.failed(e.getStatusCode(), e.getMessage()));
+        } catch (GraphAPIException e) {
             log.error("MS Graph API error: {}", e.getMessage(), e);
-            throw new GraphAPIException("Failed to fetch calendar events from MS Graph", e);
-        } catch (IllegalArgumentException e) {
-            log.error("Invalid date parameters: {}", e.getMessage());
+            pending.keySet().forEach(i -> results[i] = EventCreation.failed(0, e.getMessage()));
+        }
+    }
+
+    // Sends as many pending creations as the mailbox has free slots, one per sub-request, and settles every
+    // non-throttled one. Throws while throttled ones remain, so the throttle controller backs off and calls
+    // again with only those left in pending
+    private void sendPendingCreations(String mailbox, GraphServiceClient client, Map<Integer, BatchStep> pending,
+                                      EventCreation[] results, Admission admission) {
+        int slots = admission.acquire(mailbox, pending.size());
+        List<Integer> indexes = pending.keySet().stream().limit(slots).toList();
+        List<BatchStepResult> responses = batchExecutor.sendAll(client, indexes.stream().map(pending::get).toList());
+
+        BatchStepResult throttled = null;
+        for (int i = 0; i < indexes.size(); i++) {
+            BatchStepResult response = responses.get(i);
+            int status = response.statusCode();
+            admission.report(status);
+            if (status == TOO_MANY_REQUESTS || status == SERVICE_UNAVAILABLE) {
+                throttled = response;
+                continue;
+            }
+            pending.remove(indexes.get(i));
+            results[indexes.get(i)] = status >= 200 && status < 300 && response.body() instanceof Event created
+                ? new EventCreation(status, created, null)
+                : EventCreation.failed(status, "MS Graph event creation failed with status " + status);
+        }
+
+        if (throttled != null) {
+            throw new BatchStepException(throttled.statusCode(), throttled.retryAfter(),
+                "MS Graph throttled " + pending.size() + " event creations with status " + throttled.statusCode());
+        }
+    }
+
+    public Event getEvent(String mailbox, String eventId) {
+        try {
+            log.debug("Fetching event {} of {} from MS Graph", eventId, mailbox);
+            return graphCall(mailbox, "events.get", () -> clients.user(mailbox).events().byEventId(eventId).get(config -> {
+                if (config.queryParameters != null) {
+                    config.queryParameters.select = CalendarEventMapper.GRAPH_SELECT;
+                }
+            }));
+        } catch (ODataError e) {
+            throw eventError("fetch", eventId, e);
+        }
+    }
+
+    /**
+     * Moves an event, but only if it is still at version {@code etag}. Without an etag, which Graph
+     * omits for some events, the update is sent unconditionally.
+     *
+     * @throws EventChangedException if the event was changed since {@code etag} was read
+     * @throws EventNotFoundException if the event does not exist (anymore)
+     */
+    public Event rescheduleEvent(String mailbox, String eventId, OffsetDateTime start, OffsetDateTime end, String etag) {
+        var update = new Event();
+        update.setStart(CalendarEventMapper.toDateTimeTimeZone(start));
+        update.setEnd(CalendarEventMapper.toDateTimeTimeZone(end));
+
+        try {
+            log.debug("Rescheduling event {} of {} in MS Graph to {} - {}", eventId, mailbox, start, end);
+            if (etag == null) {
+                log.warn("No etag for event {} of {}, rescheduling without If-Match", eventId, mailbox);
+            }
+            Event updated = graphCall(mailbox, "events.update", () -> clients.user(mailbox).events().byEventId(eventId)
+                .patch(update, config -> {
+                    if (etag != null) {
+                        config.headers.add("If-Match", etag);
+                    }
+                }));
+            log.info("Rescheduled event {} in MS Graph", eventId);
+            return updated;
+        } catch (ODataError e) {
+            throw eventError("reschedule", eventId, e);
+        }
+    }
+
+    // Graph returns @odata.etag with every event, whatever the $select
+    public static String etagOf(Event event) {
+        if (event.getAdditionalData() != null && event.getAdditionalData().get("@odata.etag") instanceof String etag) {
+            return etag;
+        }
+        return event.getChangeKey() != null ? "W/\"" + event.getChangeKey() + "\"" : null;
+    }
+
+    private GraphAPIException eventError(String action, String eventId, ODataError e) {
+        return switch (e.getResponseStatusCode()) {
+            case NOT_FOUND -> new EventNotFoundException("Event " + eventId + " not found in MS Graph", e);
+            case PRECONDITION_FAILED -> new EventChangedException("Event " + eventId + " was changed since its etag was read", e);
+            default -> {
+                log.error("MS Graph API error {}: {}", e.getResponseStatusCode(), e.getMessage(), e);
+                yield new GraphAPIException("Failed to " + action + " event " + eventId + " in MS Graph", e);
+            }
+        };
+    }
+
+    @PostConstruct
+    void registerGauges() {
+        meterRegistry.gauge("graph.requests.active", activeRequests);
+    }
+
+    // Each attempt is timed separately, so throttling waits show up as retries rather than latency.
+    // The span covers the whole call, throttling waits included, with one HTTP child span per attempt
+    private <T> T graphCall(String mailbox, String operation, Supplier<T> call) {
+        return graphSpan(operation, span -> throttleController.execute(mailbox, () -> attempt(operation, span, call)));
+    }
+
+    // Batched calls take their throttle slot when the batch is sent, not while they wait for it to fill
+    private <T extends Parsable> T batchedGraphCall(String mailbox, String operation, RequestInformation request,
+                                                    ParsableFactory<T> factory) {
+        GraphServiceClient client = clients.clientFor(mailbox);
+        return admittedGraphCall(mailbox, operation, admission -> batchExecutor.execute(client, request, factory, admission));
+    }
+
+    // The call takes its own throttle slots through the admission
+    private <T> T admittedGraphCall(String mailbox, String operation, Function<Admission, T> call) {
+        return graphSpan(operation, span -> throttleController.executeQueued(mailbox,
+            admission -> attempt(operation, span, () -> call.apply(admission))));
+    }
+
+    private <T> T graphSpan(String operation, Function<Span, T> throttled) {
+        Span span = tracer.nextSpan().name("graph " + operation).tag("graph.operation", operation).start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            return throttled.apply(span);
+        } catch (RuntimeException e) {
+            span.error(e);
             throw e;
+        } finally {
+            span.end();
         }
     }
+
+    private <T> T attempt(String operation, Span span, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "200";
+        activeRequests.incrementAndGet();
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            status = statusOf(e);
+            describeODataErrors(e);
+            throw e;
+        } finally {
+            activeRequests.decrementAndGet();
+            sample.stop(meterRegistry.timer("graph.request.duration", "operation", operation, "status", status));
+            span.event("attempt " + status);
+        }
+    }
+
+    // ODataError.getMessage() dereferences its MainError, which Graph leaves out of some error responses;
+    // without one, logging the error or anything caused by it fails with a NullPointerException
+    private static void describeODataErrors(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ODataError e && e.getError() == null) {
+                MainError mainError = new MainError();
+                mainError.setCode(String.valueOf(e.getResponseStatusCode()));
+                mainError.setMessage("MS Graph request failed with status " + e.getResponseStatusCode());
+                e.setError(mainError);
+            }
+        }
+    }
+
+    private static String statusOf(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ODataError e) {
+                return String.valueOf(e.getResponseStatusCode());
+            }
+            if (cause instanceof BatchStepException e) {
+                return String.valueOf(e.getStatusCode());
+            }
+        }
+        return "IO_ERROR";
+    }
+
+    private boolean isRemoved(Event event) {
+        return event.getAdditionalData() != null && event.getAdditionalData().containsKey("@removed");
+    }
+
+    private String maxPageSizePreference() {
+        return "odata.maxpagesize=" + properties.getPaging().getPageSize();
+    }
+
+    private int consumePages(String mailbox, EventCollectionResponse firstPage, Consumer<List<Event>> pageConsumer) {
+        String nextLink = firstPage.getOdataNextLink();
+        if (nextLink == null) {
+            pageConsumer.accept(firstPage.getValue());
+            return firstPage.getValue().size();
+        }
+
+        BlockingQueue<FetchedPage> pages = new ArrayBlockingQueue<>(Math.max(1, properties.getPaging().getPrefetchPages()));
+        Span parent = tracer.currentSpan();
+        Future<?> fetcher = pageFetchExecutor.submit(() -> {
+            try (Tracer.SpanInScope scope = tracer.withSpan(parent)) {
+                fetchRemainingPages(mailbox, nextLink, pages);
+            }
+        });
+
+        try {
+            pageConsumer.accept(firstPage.getValue());
+            int total = firstPage.getValue().size();
+            int pageCount = 1;
+
+            while (true) {
+                FetchedPage page = pages.take();
+                if (page.error() instanceof RuntimeException e) {
+                    throw e;
+                }
+                if (page.error() instanceof Error e) {
+                    throw e;
+                }
+                if (page.error() != null) {
+                    throw new GraphAPIException("Failed to fetch calendar events from MS Graph", page.error());
+                }
+                pageConsumer.accept(page.events());
+                total += page.events().size();
+                pageCount++;
+                if (page.last()) {
+                    log.debug("Consumed {} calendarView pages", pageCount);
+                    return total;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GraphAPIException("Interrupted while paging calendar events from MS Graph", e);
+        } finally {
+            fetcher.cancel(true);
+        }
+    }
+
+    private void fetchRemainingPages(String mailbox, String nextLink, BlockingQueue<FetchedPage> pages) {
+        try {
+            String link = nextLink;
+            while (link != null) {
+                String pageLink = link;
+                var response = graphCall(mailbox, "calendarView.page", () -> clients.user(mailbox)
+                    .calendarView()
+                    .withUrl(pageLink)
+                    .get());
+
+                List<Event> events = response != null && response.getValue() != null ? response.getValue() : List.of();
+                link = response != null ? response.getOdataNextLink() : null;
+                pages.put(new FetchedPage(events, null, link == null));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable t) {
+            // Errors too, or the consumer would wait on the queue forever
+            try {
+                pages.put(new FetchedPage(List.of(), t, true));
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private record FetchedPage(List<Event> events, Throwable error, boolean last) {}
 }
@@ -0,0 +1,72 @@
+package com.enterprise.calendar.service;
+
+import com.microsoft.graph.core.content.BatchRequestContent;
+import com.microsoft.graph.core.content.BatchResponseContent;
+import com.microsoft.graph.models.odataerrors.ODataError;
+import com.microsoft.graph.serviceclient.GraphServiceClient;
+import com.microsoft.kiota.RequestInformation;
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParsableFactory;
+import okhttp3.Response;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class GraphBatchClient {
+
+    public Parsable sendSingle(GraphServiceClient graphServiceClient, BatchStep step) {
+        HashMap<String, ParsableFactory<? extends Parsable>> errorMapping = new HashMap<>();
+        errorMapping.put("XXX", ODataError::createFromDiscriminatorValue);
+        return graphServiceClient.getRequestAdapter().send(step.request(), errorMapping, step.factory());
+    }
+
+    public List<BatchStepResult> send(GraphServiceClient graphServiceClient, List<BatchStep> steps) throws IOException {
+        BatchRequestContent content = new BatchRequestContent(graphServiceClient);
+        List<String> stepIds = new ArrayList<>(steps.size());
+        for (BatchStep step : steps) {
+            stepIds.add(content.addBatchRequestStep(step.request()));
+        }
+
+        BatchResponseContent response = graphServiceClient.getBatchRequestBuilder().post(content, null);
+        Map<String, Integer> statusCodes = response.getResponsesStatusCode();
+
+        List<BatchStepResult> results = new ArrayList<>(steps.size());
+        for (int i = 0; i < steps.size(); i++) {
+            String stepId = stepIds.get(i);
+            int statusCode = statusCodes.getOrDefault(stepId, 500);
+            if (statusCode >= 200 && statusCode < 300) {
+                results.add(new BatchStepResult(statusCode, response.getResponseById(stepId, steps.get(i).factory())));
+            } else {
+                results.add(new BatchStepResult(statusCode, null, retryAfter(response, stepId)));
+            }
+        }
+        return results;
+    }
+
+    private String retryAfter(BatchResponseContent response, String stepId) {
+        try (Response stepResponse = response.getResponseById(stepId)) {
+            return stepResponse != null ? stepResponse.header("Retry-After") : null;
+        }
+    }
+
+    public record BatchStep(
+        RequestInformation request,
+        ParsableFactory<? extends Parsable> factory
+    ) {}
+
+    public record BatchStepResult(
+        int statusCode,
+        Parsable body,
+        String retryAfter
+    ) {
+
+        public BatchStepResult(int statusCode, Parsable body) {
+            this(statusCode, body, null);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.config.GraphProperties;
+import com.enterprise.calendar.exception.BatchStepException;
+import com.enterprise.calendar.exception.GraphAPIException;
+import com.enterprise.calendar.service.GraphBatchClient.BatchStep;
+import com.enterprise.calendar.service.GraphBatchClient.BatchStepResult;
+import com.enterprise.calendar.service.GraphThrottleController.Admission;
+import com.microsoft.graph.models.odataerrors.ODataError;
+import com.microsoft.graph.serviceclient.GraphServiceClient;
+import com.microsoft.kiota.RequestInformation;
+import com.microsoft.kiota.serialization.Parsable;
+import com.microsoft.kiota.serialization.ParsableFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.CurrentTraceContext;
+import io.micrometer.tracing.Link;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces Graph requests issued within a short window into a single JSON {@code $batch} call.
+ * <p>
+ * A batch is sent when it reaches {@code microsoft.graph.batch.max-size} requests or when the
+ * oldest pending request has waited {@code microsoft.graph.batch.window}. Each caller gets its own
+ * future, so a failed sub-request only fails that caller. Requests are only batched with others
+ * for the same client, as a {@code $batch} call runs under a single tenant's token.
+ * <p>
+ * A request only joins a batch once its {@link Admission} grants it a slot in its mailbox's concurrency
+ * limit. Requests refused a slot stay queued and are offered to the next batch, one window later.
+ * <p>
+ * Batches are sent on other threads, so each request carries its caller's trace context. A
+ * single request is sent in its caller's context; a {@code graph.batch} span is the parent of
+ * a shared {@code $batch} call, child of the first caller's span and linked to the others.
+ */
+@Component
+@Slf4j
+public class GraphBatchExecutor {
+
+    // Hard limit on requests per JSON batch imposed by Graph
+    private static final int GRAPH_MAX_BATCH_SIZE = 20;
+
+    private final GraphBatchClient batchClient;
+    private final GraphProperties.Batch properties;
+    private final Tracer tracer;
+    private final DistributionSummary fillRatio;
+    private final Counter batchesSent;
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("graph-batch-flush").daemon().factory());
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final Object lock = new Object();
+    private final Map<GraphServiceClient, PendingBatch> pending = new IdentityHashMap<>();
+
+    public GraphBatchExecutor(GraphBatchClient batchClient, GraphProperties graphProperties, MeterRegistry meterRegistry,
+                              Tracer tracer) {
+        this.batchClient = batchClient;
+        this.properties = graphProperties.getBatch();
+        this.tracer = tracer;
+        this.fillRatio = DistributionSummary.builder("graph.batch.fill.ratio")
+            .description("Requests per Graph $batch call relative to the maximum batch size")
+            .register(meterRegistry);
+        this.batchesSent = Counter.builder("graph.batch.sent")
+            .description("Coalesced Graph calls sent")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public <T extends Parsable> T execute(GraphServiceClient client, RequestInformation request, ParsableFactory<T> factory,
+                                          Admission admission) {
+        try {
+            return submit(client, request, factory, admission).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new GraphAPIException("Batched MS Graph request failed", e.getCause());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Parsable> CompletableFuture<T> submit(GraphServiceClient client, RequestInformation request,
+                                                            ParsableFactory<T> factory, Admission admission) {
+        CompletableFuture<Parsable> future = new CompletableFuture<>();
+        List<PendingRequest> ready = null;
+
+        synchronized (lock) {
+            PendingBatch batch = pending.computeIfAbsent(client, key -> new PendingBatch());
+            batch.requests.add(new PendingRequest(new BatchStep(request, factory), future,
+                tracer.currentTraceContext().context(), admission));
+            if (batch.requests.size() >= maxBatchSize()) {
+                ready = drain(client);
+            } else if (batch.scheduledFlush == null) {
+                batch.scheduledFlush = flushScheduler.schedule(() -> flushPending(client),
+                    properties.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (ready != null && !ready.isEmpty()) {
+            dispatch(client, ready);
+        }
+        return (CompletableFuture<T>) (CompletableFuture<?>) future;
+    }
+
+    /**
+     * Sends {@code steps} right away, in as few {@code $batch} calls as the batch size allows, without
+     * waiting for or coalescing with other callers. Failed sub-requests are returned, not thrown, so the
+     * caller can tell which of its requests to retry.
+     */
+    public List<BatchStepResult> sendAll(GraphServiceClient client, List<BatchStep> steps) {
+        List<BatchStepResult> results = new ArrayList<>(steps.size());
+        for (int from = 0; from < steps.size(); from += maxBatchSize()) {
+            List<BatchStep> chunk = steps.subList(from, Math.min(from + maxBatchSize(), steps.size()));
+            fillRatio.record((double) chunk.size() / maxBatchSize());
+            batchesSent.increment();
+
+            if (chunk.size() == 1) {
+                results.add(sendSingle(client, chunk.getFirst()));
+                continue;
+            }
+            try {
+                results.addAll(batchClient.send(client, chunk));
+                log.debug("Sent Graph $batch with {} requests", chunk.size());
+            } catch (IOException e) {
+                throw new GraphAPIException("MS Graph $batch request failed", e);
+            }
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushScheduler.shutdownNow();
+        sender.shutdown();
+    }
+
+    private void flushPending(GraphServiceClient client) {
+        List<PendingRequest> ready;
+        synchronized (lock) {
+            ready = drain(client);
+        }
+        if (!ready.isEmpty()) {
+            dispatch(client, ready);
+        }
+    }
+
+    // Takes the requests that get a concurrency slot; the others wait for the next flush
+    private List<PendingRequest> drain(GraphServiceClient client) {
+        PendingBatch batch = pending.get(client);
+        if (batch == null) {
+            return List.of();
+        }
+        if (batch.scheduledFlush != null) {
+            batch.scheduledFlush.cancel(false);
+            batch.scheduledFlush = null;
+        }
+
+        List<PendingRequest> ready = new ArrayList<>();
+        Iterator<PendingRequest> requests = batch.requests.iterator();
+        while (requests.hasNext() && ready.size() < maxBatchSize()) {
+            PendingRequest request = requests.next();
+            if (request.admission().tryAcquire()) {
+                ready.add(request);
+                requests.remove();
+            }
+        }
+
+        if (batch.requests.isEmpty()) {
+            pending.remove(client);
+        } else {
+            batch.scheduledFlush = flushScheduler.schedule(() -> flushPending(client),
+                properties.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return ready;
+    }
+
+    private void dispatch(GraphServiceClient client, List<PendingRequest> batch) {
+        sender.execute(() -> send(client, batch));
+    }
+
+    private void send(GraphServiceClient client, List<PendingRequest> batch) {
+        fillRatio.record((double) batch.size() / maxBatchSize());
+        batchesSent.increment();
+
+        if (batch.size() == 1) {
+            PendingRequest request = batch.getFirst();
+            try (CurrentTraceContext.Scope scope = tracer.currentTraceContext().maybeScope(request.context())) {
+                request.future().complete(batchClient.sendSingle(client, request.step()));
+            } catch (RuntimeException e) {
+                request.future().completeExceptionally(e);
+            }
+            return;
+        }
+
+        Span span = batchSpan(batch);
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            List<BatchStepResult> results = batchClient.send(client, batch.stream().map(PendingRequest::step).toList());
+            log.debug("Sent Graph $batch with {} requests", batch.size());
+
+            for (int i = 0; i < batch.size(); i++) {
+                CompletableFuture<Parsable> future = batch.get(i).future();
+                BatchStepResult result = i < results.size() ? results.get(i) : null;
+
+                if (result == null) {
+                    future.completeExceptionally(new GraphAPIException("MS Graph $batch response is missing a sub-request"));
+                } else if (result.statusCode() >= 200 && result.statusCode() < 300) {
+                    future.complete(result.body());
+                } else {
+                    future.completeExceptionally(new BatchStepException(result.statusCode(), result.retryAfter(),
+                        "MS Graph batched request failed with status " + result.statusCode()));
+                }
+            }
+        } catch (Exception e) {
+            log.error("MS Graph $batch request failed: {}", e.getMessage(), e);
+            span.error(e);
+            batch.forEach(request -> request.future().completeExceptionally(
+                new GraphAPIException("MS Graph $batch request failed", e)));
+        } finally {
+            span.end();
+        }
+    }
+
+    private Span batchSpan(List<PendingRequest> batch) {
+        Span.Builder builder = tracer.spanBuilder()
+            .name("graph.batch")
+            .tag("graph.batch.size", String.valueOf(batch.size()));
+        TraceContext parent = batch.getFirst().context();
+        if (parent != null) {
+            builder.setParent(parent);
+        } else {
+            builder.setNoParent();
+        }
+        for (PendingRequest request : batch.subList(1, batch.size())) {
+            if (request.context() != null) {
+                builder.addLink(new Link(request.context()));
+            }
+        }
+        return builder.start();
+    }
+
+    private BatchStepResult sendSingle(GraphServiceClient client, BatchStep step) {
+        try {
+            return new BatchStepResult(200, batchClient.sendSingle(client, step));
+        } catch (ODataError e) {
+            return new BatchStepResult(e.getResponseStatusCode(), null, retryAfter(e));
+        }
+    }
+
+    private static String retryAfter(ODataError error) {
+        Map<String, Set<String>> headers = error.getResponseHeaders();
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, Set<String>> entry : headers.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase("Retry-After") && !entry.getValue().isEmpty()) {
+                return entry.getValue().iterator().next();
+            }
+        }
+        return null;
+    }
+
+    private int maxBatchSize() {
+        return Math.max(1, Math.min(properties.getMaxSize(), GRAPH_MAX_BATCH_SIZE));
+    }
+
+    // context is the caller's trace context, null outside a trace
+    private record PendingRequest(BatchStep step, CompletableFuture<Parsable> future, TraceContext context,
+                                  Admission admission) {}
+
+    private static final class PendingBatch {
+
+        private final List<PendingRequest> requests = new ArrayList<>();
+        private ScheduledFuture<?> scheduledFlush;
+    }
+}
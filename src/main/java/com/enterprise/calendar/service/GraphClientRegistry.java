@@ -0,0 +1,142 @@
+package com.enterprise.calendar.service;
+
+import com.azure.identity.ClientSecretCredentialBuilder;
+import com.enterprise.calendar.config.GraphProperties;
+import com.enterprise.calendar.store.CalendarEventStore;
+import com.microsoft.graph.core.authentication.AzureIdentityAuthenticationProvider;
+import com.microsoft.graph.serviceclient.GraphServiceClient;
+import com.microsoft.graph.users.item.UserItemRequestBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.tracing.Tracer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds and caches one {@link GraphServiceClient} and token manager per tenant.
+ * <p>
+ * Mailboxes are routed to a tenant by the domain of their address, falling back to the default
+ * tenant configured by the top-level {@code microsoft.graph} credentials. Clients are created on
+ * first use and, except for the default tenant, dropped after {@code client-pool.idle-timeout}
+ * without a call. All clients share one OkHttp client and so one connection pool.
+ */
+@Component
+@Slf4j
+public class GraphClientRegistry {
+
+    public static final String DEFAULT_TENANT = "default";
+
+    private final GraphProperties properties;
+    private final OkHttpClient httpClient;
+    private final Tracer tracer;
+    private final Map<String, GraphProperties.Tenant> tenants = new ConcurrentHashMap<>();
+    private final Map<String, String> tenantsByDomain = new ConcurrentHashMap<>();
+    private final Map<String, TenantClient> clients = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("graph-client-evictor").daemon().factory());
+
+    public GraphClientRegistry(GraphProperties properties, OkHttpClient graphHttpClient, Tracer tracer, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.httpClient = graphHttpClient;
+        this.tracer = tracer;
+
+        GraphProperties.Tenant defaultTenant = new GraphProperties.Tenant();
+        defaultTenant.setTenantId(properties.getTenantId());
+        defaultTenant.setClientId(properties.getClientId());
+        defaultTenant.setClientSecret(properties.getClientSecret());
+        tenants.put(DEFAULT_TENANT, defaultTenant);
+        tenants.putAll(properties.getTenants());
+        properties.getTenants().forEach((key, tenant) ->
+            tenant.getDomains().forEach(domain -> tenantsByDomain.put(domain.toLowerCase(Locale.ROOT), key)));
+
+        meterRegistry.gaugeMapSize("graph.clients", Tags.empty(), clients);
+        long sweepMillis = Math.max(1_000, properties.getClientPool().getIdleTimeout().toMillis() / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public String tenantFor(String mailbox) {
+        int at = mailbox.lastIndexOf('@');
+        if (at < 0) {
+            return DEFAULT_TENANT;
+        }
+        return tenantsByDomain.getOrDefault(mailbox.substring(at + 1).toLowerCase(Locale.ROOT), DEFAULT_TENANT);
+    }
+
+    public GraphServiceClient client(String tenant) {
+        TenantClient client = clients.computeIfAbsent(tenant, this::createClient);
+        client.lastUsed = System.nanoTime();
+        return client.graphClient;
+    }
+
+    public GraphServiceClient clientFor(String mailbox) {
+        return client(tenantFor(mailbox));
+    }
+
+    // The signed-in user of the default tenant is addressed as /me, everyone else as /users/{id}
+    public UserItemRequestBuilder user(String mailbox) {
+        GraphServiceClient client = clientFor(mailbox);
+        return CalendarEventStore.DEFAULT_MAILBOX.equals(mailbox) ? client.me() : client.users().byUserId(mailbox);
+    }
+
+    public GraphTokenManager tokenManager(String tenant) {
+        return clients.computeIfAbsent(tenant, this::createClient).tokenManager;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        evictor.shutdownNow();
+        clients.values().forEach(client -> client.tokenManager.shutdown());
+    }
+
+    private TenantClient createClient(String key) {
+        GraphProperties.Tenant tenant = tenants.get(key);
+        if (tenant == null) {
+            throw new IllegalArgumentException("Unknown MS Graph tenant: " + key);
+        }
+
+        var credential = new ClientSecretCredentialBuilder()
+            .tenantId(tenant.getTenantId())
+            .clientId(tenant.getClientId())
+            .clientSecret(tenant.getClientSecret())
+            .build();
+        var tokenManager = new GraphTokenManager(credential, properties, tracer);
+        var graphClient = new GraphServiceClient(
+            new AzureIdentityAuthenticationProvider(tokenManager, new String[0], properties.getScope()),
+            httpClient
+        );
+        log.info("Created MS Graph client for tenant '{}'", key);
+        return new TenantClient(graphClient, tokenManager);
+    }
+
+    void evictIdle() {
+        long idleNanos = properties.getClientPool().getIdleTimeout().toNanos();
+        long now = System.nanoTime();
+        clients.forEach((key, client) -> {
+            if (!DEFAULT_TENANT.equals(key) && now - client.lastUsed > idleNanos && clients.remove(key, client)) {
+                client.tokenManager.shutdown();
+                log.info("Evicted idle MS Graph client for tenant '{}'", key);
+            }
+        });
+    }
+
+    private static final class TenantClient {
+
+        private final GraphServiceClient graphClient;
+        private final GraphTokenManager tokenManager;
+        private volatile long lastUsed = System.nanoTime();
+
+        private TenantClient(GraphServiceClient graphClient, GraphTokenManager tokenManager) {
+            this.graphClient = graphClient;
+            this.tokenManager = tokenManager;
+        }
+    }
+}
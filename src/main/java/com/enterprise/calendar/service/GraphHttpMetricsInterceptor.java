@@ -0,0 +1,46 @@
+package com.enterprise.calendar.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Network interceptor that counts Graph responses by negotiated protocol and content encoding.
+ * <p>
+ * Network interceptors see the response before OkHttp decodes gzip, so {@code graph.http.response.size}
+ * records bytes on the wire, and the {@code protocol} and {@code encoding} tags show whether
+ * HTTP/2 and compression are actually in use.
+ */
+public class GraphHttpMetricsInterceptor implements Interceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    public GraphHttpMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Response response = chain.proceed(chain.request());
+
+        String protocol = response.protocol().toString();
+        String contentEncoding = response.header("Content-Encoding");
+        String encoding = contentEncoding != null ? contentEncoding.toLowerCase(Locale.ROOT) : "identity";
+        meterRegistry.counter("graph.http.responses", "protocol", protocol, "encoding", encoding).increment();
+
+        long contentLength = response.body() != null ? response.body().contentLength() : -1;
+        if (contentLength >= 0) {
+            DistributionSummary.builder("graph.http.response.size")
+                .description("Graph response body size on the wire")
+                .baseUnit("bytes")
+                .tag("encoding", encoding)
+                .register(meterRegistry)
+                .record(contentLength);
+        }
+        return response;
+    }
+}
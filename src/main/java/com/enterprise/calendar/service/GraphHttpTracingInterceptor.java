@@ -0,0 +1,51 @@
+package com.enterprise.calendar.service;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * Records one client span per HTTP attempt made by the Graph SDK.
+ * <p>
+ * Added after the SDK's own middleware, so retries and redirects handled by the SDK each get
+ * their own span under the calling {@code graph <operation>} span. The Graph {@code request-id}
+ * response header is tagged on the span to correlate with Microsoft support.
+ */
+@RequiredArgsConstructor
+public class GraphHttpTracingInterceptor implements Interceptor {
+
+    private final Tracer tracer;
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Span span = tracer.spanBuilder()
+            .name("HTTP " + request.method())
+            .kind(Span.Kind.CLIENT)
+            .remoteServiceName("microsoft-graph")
+            .tag("http.request.method", request.method())
+            .tag("server.address", request.url().host())
+            .tag("url.path", request.url().encodedPath())
+            .start();
+
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            Response response = chain.proceed(request);
+            span.tag("http.response.status_code", String.valueOf(response.code()));
+            String requestId = response.header("request-id");
+            if (requestId != null) {
+                span.tag("graph.request_id", requestId);
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.config.GraphProperties;
+import com.enterprise.calendar.exception.BatchStepException;
+import com.enterprise.calendar.exception.GraphAPIException;
+import com.microsoft.graph.models.odataerrors.ODataError;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Paces MS Graph calls to stay under Graph's throttling limits.
+ * <p>
+ * Every call takes a token from an app-wide and a per-mailbox token bucket, then a slot from the
+ * mailbox's adaptive concurrency limit. The limit grows additively while calls succeed and shrinks
+ * multiplicatively on a 429/503, and the mailbox (429) or the whole app (503) pauses for the
+ * {@code Retry-After} period before the call is retried.
+ * <p>
+ * Calls that wait in the {@link GraphBatchExecutor} queue go through {@link #executeQueued}: they are
+ * paced up front but take their concurrency slot through an {@link Admission} only when their batch is
+ * sent, so the coalescing window does not count against the mailbox's limit. A {@code $batch} sent on
+ * behalf of one call takes one slot per sub-request and reports each sub-response to its
+ * {@link Admission}, since Graph counts every sub-request against the mailbox.
+ */
+@Component
+@Slf4j
+public class GraphThrottleController {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final GraphProperties.Throttle properties;
+    private final TokenBucket appBucket;
+    private final Map<String, MailboxState> mailboxes = new ConcurrentHashMap<>();
+    private volatile long appCooldownUntil = System.nanoTime();
+
+    public GraphThrottleController(GraphProperties graphProperties) {
+        this.properties = graphProperties.getThrottle();
+        this.appBucket = new TokenBucket(properties.getAppRequestsPerSecond(), properties.getAppBurst());
+    }
+
+    public <T> T execute(String mailbox, Supplier<T> call) {
+        return execute(mailbox, true, admission -> call.get());
+    }
+
+    /**
+     * Paces and retries {@code call} like {@link #execute(String, Supplier)}, but leaves taking the
+     * concurrency slot to the call, through {@link Admission#tryAcquire()} right before its request is sent.
+     * The slot is released once the call returns.
+     */
+    public <T> T executeQueued(String mailbox, Function<Admission, T> call) {
+        return execute(mailbox, false, call);
+    }
+
+    private <T> T execute(String mailbox, boolean acquireUpfront, Function<Admission, T> call) {
+        if (!properties.isEnabled()) {
+            return call.apply(Admission.unlimited());
+        }
+
+        MailboxState state = mailboxes.computeIfAbsent(mailbox, key -> new MailboxState());
+        for (int attempt = 0; ; attempt++) {
+            pace(mailbox, state);
+            Admission admission = new Admission(state.limit);
+            if (acquireUpfront) {
+                admission.acquire(mailbox);
+            }
+            try {
+                T result = call.apply(admission);
+                if (!admission.reported) {
+                    state.limit.onSuccess();
+                }
+                return result;
+            } catch (RuntimeException e) {
+                int status = throttleStatus(e);
+                if (status == 0) {
+                    throw e;
+                }
+
+                Duration retryAfter = retryAfter(e);
+                long until = System.nanoTime() + retryAfter.toNanos();
+                if (status == SERVICE_UNAVAILABLE) {
+                    appCooldownUntil = Math.max(appCooldownUntil, until);
+                } else {
+                    state.cooldownUntil = Math.max(state.cooldownUntil, until);
+                }
+                if (!admission.reported) {
+                    state.limit.onThrottle(admission.ticket);
+                }
+
+                if (attempt >= properties.getMaxRetries()) {
+                    log.warn("MS Graph still throttling mailbox {} after {} retries", mailbox, attempt);
+                    throw e;
+                }
+                log.info("MS Graph throttled mailbox {} with status {}, retrying in {} ms (concurrency limit {})",
+                    mailbox, status, retryAfter.toMillis(), state.limit.currentLimit());
+            } finally {
+                admission.release();
+            }
+        }
+    }
+
+    public int currentLimit(String mailbox) {
+        MailboxState state = mailboxes.get(mailbox);
+        return state != null ? state.limit.currentLimit() : properties.getInitialConcurrency();
+    }
+
+    private void pace(String mailbox, MailboxState state) {
+        try {
+            long wait = Math.max(appCooldownUntil, state.cooldownUntil) - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            appBucket.acquire();
+            state.bucket.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GraphAPIException("Interrupted while waiting for MS Graph capacity for mailbox " + mailbox, e);
+        }
+    }
+
+    private int throttleStatus(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            int status = switch (cause) {
+                case ODataError e -> e.getResponseStatusCode();
+                case BatchStepException e -> e.getStatusCode();
+                default -> 0;
+            };
+            if (status == TOO_MANY_REQUESTS || status == SERVICE_UNAVAILABLE) {
+                return status;
+            }
+        }
+        return 0;
+    }
+
+    private Duration retryAfter(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            String header = switch (cause) {
+                case ODataError e -> header(e.getResponseHeaders(), "Retry-After");
+                case BatchStepException e -> e.getRetryAfter();
+                default -> null;
+            };
+            if (header != null) {
+                return parseRetryAfter(header, properties.getDefaultRetryAfter());
+            }
+        }
+        return properties.getDefaultRetryAfter();
+    }
+
+    private String header(Map<String, Set<String>> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, Set<String>> entry : headers.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name) && !entry.getValue().isEmpty()) {
+                return entry.getValue().iterator().next();
+            }
+        }
+        return null;
+    }
+
+    static Duration parseRetryAfter(String value, Duration fallback) {
+        String trimmed = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed)));
+        } catch (NumberFormatException e) {
+            // Retry-After may also be an HTTP date
+        }
+        try {
+            Duration untilDate = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return untilDate.isNegative() ? Duration.ZERO : untilDate;
+        } catch (DateTimeParseException e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * One attempt's slots in a mailbox's concurrency limit, taken at most once and released by the controller.
+     */
+    public static final class Admission {
+
+        private final AdaptiveLimit limit;
+        // Order in which the first slot was issued, 0 while not acquired
+        private long ticket;
+        private int slots;
+        // Set once the call reported sub-response outcomes itself
+        private boolean reported;
+
+        Admission(AdaptiveLimit limit) {
+            this.limit = limit;
+        }
+
+        static Admission unlimited() {
+            return new Admission(null);
+        }
+
+        /**
+         * Takes the slot if the mailbox is below its limit. Returns true if the slot is held, also when it
+         * was already taken by an earlier call.
+         */
+        public boolean tryAcquire() {
+            if (limit == null || ticket != 0) {
+                return true;
+            }
+            ticket = limit.tryAcquire();
+            slots = ticket != 0 ? 1 : 0;
+            return ticket != 0;
+        }
+
+        /**
+         * Takes one slot per sub-request of a {@code $batch}, waiting for the first one and taking as many
+         * more as the mailbox's limit has free, up to {@code wanted}. Returns the number of slots held, i.e.
+         * how many sub-requests may be sent.
+         */
+        public int acquire(String mailbox, int wanted) {
+            if (limit == null) {
+                return wanted;
+            }
+            if (ticket == 0) {
+                acquire(mailbox);
+            }
+            while (slots < wanted && limit.tryAcquire() != 0) {
+                slots++;
+            }
+            return Math.min(slots, wanted);
+        }
+
+        /**
+         * Feeds the status of one sub-response into the mailbox's concurrency limit. Once a call reports,
+         * the controller no longer counts the call as a whole as one success or throttle.
+         */
+        public void report(int statusCode) {
+            reported = true;
+            if (limit == null) {
+                return;
+            }
+            if (statusCode == TOO_MANY_REQUESTS || statusCode == SERVICE_UNAVAILABLE) {
+                limit.onThrottle(ticket);
+            } else if (statusCode >= 200 && statusCode < 300) {
+                limit.onSuccess();
+            }
+        }
+
+        private void acquire(String mailbox) {
+            try {
+                ticket = limit.acquire();
+                slots = 1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GraphAPIException("Interrupted while waiting for MS Graph capacity for mailbox " + mailbox, e);
+            }
+        }
+
+        void release() {
+            if (limit != null) {
+                limit.release(slots);
+            }
+        }
+    }
+
+    private final class MailboxState {
+
+        private final TokenBucket bucket = new TokenBucket(properties.getMailboxRequestsPerSecond(), properties.getMailboxBurst());
+        private final AdaptiveLimit limit = new AdaptiveLimit(properties);
+        private volatile long cooldownUntil = System.nanoTime();
+    }
+
+    static final class TokenBucket {
+
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        TokenBucket(double tokensPerSecond, int capacity) {
+            this.tokensPerNano = Math.max(tokensPerSecond, 0.001) / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(1, capacity);
+            this.tokens = this.capacity;
+        }
+
+        void acquire() throws InterruptedException {
+            while (true) {
+                long wait;
+                synchronized (this) {
+                    long now = System.nanoTime();
+                    tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+                    refilledAt = now;
+                    if (tokens >= 1) {
+                        tokens -= 1;
+                        return;
+                    }
+                    wait = (long) Math.ceil((1 - tokens) / tokensPerNano);
+                }
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+    }
+
+    static final class AdaptiveLimit {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition slotFreed = lock.newCondition();
+        private final int min;
+        private final int max;
+        private final double decreaseFactor;
+        private double limit;
+        private int inFlight;
+        private long issued;
+        private long lastDecreaseAt;
+
+        AdaptiveLimit(GraphProperties.Throttle properties) {
+            this.min = Math.max(1, properties.getMinConcurrency());
+            this.max = Math.max(min, properties.getMaxConcurrency());
+            this.decreaseFactor = properties.getDecreaseFactor();
+            this.limit = Math.clamp(properties.getInitialConcurrency(), min, max);
+        }
+
+        long acquire() throws InterruptedException {
+            lock.lock();
+            try {
+                while (inFlight >= (int) limit) {
+                    slotFreed.await();
+                }
+                inFlight++;
+                return ++issued;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long tryAcquire() {
+            lock.lock();
+            try {
+                if (inFlight >= (int) limit) {
+                    return 0;
+                }
+                inFlight++;
+                return ++issued;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void release(int slots) {
+            if (slots == 0) {
+                return;
+            }
+            lock.lock();
+            try {
+                inFlight -= slots;
+                slotFreed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void onSuccess() {
+            lock.lock();
+            try {
+                int before = (int) limit;
+                // +1 per limit's worth of successes, roughly one step per round trip
+                limit = Math.min(max, limit + 1.0 / limit);
+                if ((int) limit > before) {
+                    slotFreed.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void onThrottle(long ticket) {
+            lock.lock();
+            try {
+                // Calls admitted before the last decrease saw the old limit; counting their
+                // throttles again would collapse the limit after a single burst
+                if (ticket > lastDecreaseAt) {
+                    limit = Math.max(min, limit * decreaseFactor);
+                    lastDecreaseAt = issued;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int currentLimit() {
+            lock.lock();
+            try {
+                return (int) limit;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.enterprise.calendar.service;
+
+import com.azure.core.credential.AccessToken;
+import com.azure.core.credential.TokenCredential;
+import com.azure.core.credential.TokenRequestContext;
+import com.azure.identity.ClientSecretCredential;
+import com.enterprise.calendar.config.GraphProperties;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caches the Graph access token and renews it in the background before it expires.
+ * <p>
+ * Requests only pay for token acquisition when no token has been fetched yet; afterwards a
+ * refresh is scheduled {@code microsoft.graph.token.refresh-before} ahead of expiry and retried
+ * every {@code refresh-retry-interval} while the current token is still valid. One instance is
+ * created per tenant by {@link GraphClientRegistry}.
+ */
+@Slf4j
+public class GraphTokenManager implements TokenCredential {
+
+    private final ClientSecretCredential credential;
+    private final GraphProperties.Token properties;
+    private final Tracer tracer;
+    private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("graph-token-refresh").daemon().factory());
+
+    public GraphTokenManager(ClientSecretCredential credential, GraphProperties graphProperties, Tracer tracer) {
+        this.credential = credential;
+        this.properties = graphProperties.getToken();
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Mono<AccessToken> getToken(TokenRequestContext request) {
+        return Mono.fromCallable(() -> getTokenSync(request));
+    }
+
+    @Override
+    public AccessToken getTokenSync(TokenRequestContext request) {
+        String key = String.join(" ", request.getScopes());
+        CachedToken cached = tokens.computeIfAbsent(key, scopes -> new CachedToken(request));
+        AccessToken token = cached.token;
+        if (token != null && !token.isExpired()) {
+            return token;
+        }
+        return refresh(cached, false);
+    }
+
+    public boolean hasValidToken() {
+        return !tokens.isEmpty() && tokens.values().stream()
+            .allMatch(cached -> cached.token != null && !cached.token.isExpired());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // A lock rather than a monitor: the token round trip must not pin a virtual thread's carrier
+    private AccessToken refresh(CachedToken cached, boolean force) {
+        cached.lock.lock();
+        try {
+            AccessToken current = cached.token;
+            if (!force && current != null && !needsRefresh(current)) {
+                return current;
+            }
+
+            AccessToken token = fetch(cached.request, force);
+            cached.token = token;
+            log.debug("Acquired MS Graph access token valid until {}", token.getExpiresAt());
+            // The credential may hand back its own cached token; don't spin until it rolls over
+            Duration untilRefresh = Duration.between(OffsetDateTime.now(), token.getExpiresAt()).minus(properties.getRefreshBefore());
+            scheduleRefresh(cached, untilRefresh.compareTo(properties.getRefreshRetryInterval()) > 0
+                ? untilRefresh
+                : properties.getRefreshRetryInterval());
+            return token;
+        } finally {
+            cached.lock.unlock();
+        }
+    }
+
+    private AccessToken fetch(TokenRequestContext request, boolean background) {
+        Span span = tracer.nextSpan()
+            .name("graph.token")
+            .tag("graph.token.refresh", background ? "background" : "on-demand")
+            .start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            return credential.getTokenSync(request);
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    // Replaces any pending refresh, so on-demand fetches don't start another background chain
+    private void scheduleRefresh(CachedToken cached, Duration delay) {
+        cached.lock.lock();
+        try {
+            // The registry shuts down managers of evicted tenants; a caller may still hold their client
+            if (refresher.isShutdown()) {
+                return;
+            }
+            if (cached.scheduledRefresh != null) {
+                cached.scheduledRefresh.cancel(false);
+            }
+            cached.scheduledRefresh = refresher.schedule(() -> {
+                try {
+                    refresh(cached, true);
+                } catch (RuntimeException e) {
+                    AccessToken current = cached.token;
+                    if (current != null && !current.isExpired()) {
+                        log.warn("Background refresh of MS Graph access token failed, retrying in {}: {}",
+                            properties.getRefreshRetryInterval(), e.getMessage());
+                        scheduleRefresh(cached, properties.getRefreshRetryInterval());
+                    } else {
+                        log.error("MS Graph access token expired and could not be refreshed: {}", e.getMessage(), e);
+                    }
+                }
+            }, Math.max(0, delay.toMillis()), TimeUnit.MILLISECONDS);
+        } finally {
+            cached.lock.unlock();
+        }
+    }
+
+    private boolean needsRefresh(AccessToken token) {
+        return OffsetDateTime.now().plus(properties.getRefreshBefore()).isAfter(token.getExpiresAt());
+    }
+
+    private static final class CachedToken {
+
+        private final TokenRequestContext request;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile AccessToken token;
+        // Guarded by lock
+        private ScheduledFuture<?> scheduledRefresh;
+
+        private CachedToken(TokenRequestContext request) {
+            this.request = request;
+        }
+    }
+}
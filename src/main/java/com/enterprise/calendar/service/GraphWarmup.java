@@ -0,0 +1,81 @@
+package com.enterprise.calendar.service;
+
+import com.azure.core.credential.TokenRequestContext;
+import com.enterprise.calendar.config.GraphProperties;
+import com.microsoft.graph.models.odataerrors.ODataError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fetches the first Graph token of the default tenant and opens a Graph connection before the pod
+ * takes traffic. Other tenants are connected on first use.
+ * <p>
+ * Registered as the {@code graphWarmup} health indicator, which is part of the readiness group,
+ * so the readiness probe stays down until both are in place.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GraphWarmup implements HealthIndicator {
+
+    private final GraphClientRegistry clients;
+    private final GraphProperties properties;
+    private volatile boolean connected;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        if (!properties.getWarmup().isEnabled()) {
+            connected = true;
+            return;
+        }
+        Thread.ofVirtual().name("graph-warmup").start(() -> {
+            while (!warmUp()) {
+                try {
+                    Thread.sleep(properties.getWarmup().getRetryInterval());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        });
+    }
+
+    public boolean warmUp() {
+        try {
+            clients.tokenManager(GraphClientRegistry.DEFAULT_TENANT)
+                .getTokenSync(new TokenRequestContext().addScopes(properties.getScope()));
+            clients.client(GraphClientRegistry.DEFAULT_TENANT).me().calendars().get(config -> {
+                if (config.queryParameters != null) {
+                    config.queryParameters.top = 1;
+                    config.queryParameters.select = new String[] {"id"};
+                }
+            });
+            connected = true;
+        } catch (ODataError e) {
+            // Graph answered, so the connection is open even if the call itself was refused
+            log.warn("MS Graph warm-up call returned status {}: {}", e.getResponseStatusCode(), e.getMessage());
+            connected = true;
+        } catch (RuntimeException e) {
+            log.warn("MS Graph warm-up failed, retrying in {}: {}", properties.getWarmup().getRetryInterval(), e.getMessage());
+            return false;
+        }
+        log.info("MS Graph warm-up complete");
+        return true;
+    }
+
+    @Override
+    public Health health() {
+        if (!connected) {
+            return Health.outOfService().withDetail("reason", "MS Graph warm-up in progress").build();
+        }
+        if (properties.getWarmup().isEnabled() && !clients.tokenManager(GraphClientRegistry.DEFAULT_TENANT).hasValidToken()) {
+            return Health.outOfService().withDetail("reason", "No valid MS Graph access token").build();
+        }
+        return Health.up().build();
+    }
+}
@@ -0,0 +1,204 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.exception.GraphAPIException;
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Single-flight registry for event fetches, keyed on mailbox and normalized range.
+ * <p>
+ * The first caller for a range performs the fetch and streams pages as usual. Callers arriving
+ * before it has emitted its first page, with the same range or any range it covers, join that
+ * fetch instead of issuing another Graph call: the leader hands each page to them as it arrives,
+ * filtered to their own range. Nothing is buffered beyond what joiners have not consumed yet, and
+ * once the leader has started streaming, new callers perform their own fetch. A failing fetch fails
+ * every joiner; a failure of the leader's own page consumer fails only the leader.
+ */
+@Component
+@Slf4j
+public class InFlightEventRequests {
+
+    private final Map<String, List<InFlight>> inFlight = new HashMap<>();
+    private final Counter sharedFetches;
+
+    public InFlightEventRequests(MeterRegistry meterRegistry) {
+        this.sharedFetches = Counter.builder("calendar.events.singleflight.shared")
+            .description("get_events requests served by another caller's in-flight fetch")
+            .register(meterRegistry);
+    }
+
+    public void execute(String mailbox, OffsetDateTime start, OffsetDateTime end,
+                        Consumer<List<CalendarEvent>> pageConsumer,
+                        Consumer<Consumer<List<CalendarEvent>>> fetch) {
+        InFlight leader = null;
+        Joiner joiner = null;
+
+        synchronized (inFlight) {
+            List<InFlight> requests = inFlight.computeIfAbsent(mailbox, key -> new ArrayList<>());
+            InFlight covering = requests.stream()
+                .filter(request -> request.subscribers == null && request.covers(start, end))
+                .findFirst()
+                .orElse(null);
+            if (covering != null) {
+                joiner = new Joiner(start, end, covering.start.equals(start) && covering.end.equals(end),
+                    new LinkedBlockingQueue<>());
+                covering.joiners.add(joiner);
+            } else {
+                leader = new InFlight(start, end);
+                requests.add(leader);
+            }
+        }
+
+        if (joiner != null) {
+            sharedFetches.increment();
+            log.debug("Joining in-flight fetch covering {} to {} for mailbox {}", start, end, mailbox);
+            drain(mailbox, joiner, pageConsumer);
+            return;
+        }
+
+        InFlight fetching = leader;
+        AtomicReference<RuntimeException> consumerFailure = new AtomicReference<>();
+        try {
+            fetch.accept(page -> {
+                List<Joiner> subscribers = startStreaming(fetching);
+                for (Joiner subscriber : subscribers) {
+                    subscriber.signals().add(new Signal(page, null));
+                }
+                deliver(page, pageConsumer, consumerFailure);
+                // Nobody else needs the remaining pages
+                if (consumerFailure.get() != null && subscribers.isEmpty()) {
+                    throw consumerFailure.get();
+                }
+            });
+            finish(mailbox, fetching, Signal.DONE);
+        } catch (Throwable t) {
+            // Errors as well as exceptions, or joiners would wait on the queue forever
+            finish(mailbox, fetching, new Signal(null, t));
+            throw t;
+        }
+        if (consumerFailure.get() != null) {
+            throw consumerFailure.get();
+        }
+    }
+
+    // The leader's own consumer failing, e.g. because its client went away, ends only the leader's request
+    private void deliver(List<CalendarEvent> page, Consumer<List<CalendarEvent>> pageConsumer,
+                         AtomicReference<RuntimeException> consumerFailure) {
+        if (consumerFailure.get() != null) {
+            return;
+        }
+        try {
+            pageConsumer.accept(page);
+        } catch (RuntimeException e) {
+            consumerFailure.set(e);
+        }
+    }
+
+    // Closes the fetch to new joiners on its first page; only the leader thread reads subscribers
+    private List<Joiner> startStreaming(InFlight leader) {
+        if (leader.subscribers == null) {
+            synchronized (inFlight) {
+                leader.subscribers = List.copyOf(leader.joiners);
+            }
+        }
+        return leader.subscribers;
+    }
+
+    private void finish(String mailbox, InFlight leader, Signal last) {
+        List<Joiner> joiners;
+        synchronized (inFlight) {
+            List<InFlight> requests = inFlight.get(mailbox);
+            requests.remove(leader);
+            if (requests.isEmpty()) {
+                inFlight.remove(mailbox);
+            }
+            joiners = List.copyOf(leader.joiners);
+        }
+        joiners.forEach(joiner -> joiner.signals().add(last));
+    }
+
+    private void drain(String mailbox, Joiner joiner, Consumer<List<CalendarEvent>> pageConsumer) {
+        while (true) {
+            Signal signal;
+            try {
+                signal = joiner.signals().take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GraphAPIException("Interrupted while waiting for the in-flight event fetch for mailbox " + mailbox, e);
+            }
+
+            if (signal.failure() instanceof RuntimeException e) {
+                throw e;
+            }
+            if (signal.failure() instanceof Error e) {
+                throw e;
+            }
+            if (signal.failure() != null) {
+                throw new GraphAPIException("In-flight event fetch failed for mailbox " + mailbox, signal.failure());
+            }
+            if (signal.page() == null) {
+                return;
+            }
+            pageConsumer.accept(joiner.filter(signal.page()));
+        }
+    }
+
+    private static final class InFlight {
+
+        private final OffsetDateTime start;
+        private final OffsetDateTime end;
+        // Guarded by the registry lock
+        private final List<Joiner> joiners = new ArrayList<>();
+        // Set under the registry lock when the first page is emitted
+        private List<Joiner> subscribers;
+
+        InFlight(OffsetDateTime start, OffsetDateTime end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        boolean covers(OffsetDateTime otherStart, OffsetDateTime otherEnd) {
+            return !start.isAfter(otherStart) && !end.isBefore(otherEnd);
+        }
+    }
+
+    private record Joiner(
+        OffsetDateTime start,
+        OffsetDateTime end,
+        boolean sameRange,
+        BlockingQueue<Signal> signals
+    ) {
+
+        List<CalendarEvent> filter(List<CalendarEvent> page) {
+            if (sameRange) {
+                return page;
+            }
+            return page.stream()
+                .filter(event -> event.start() != null && event.end() != null
+                    && !event.start().isAfter(end)
+                    && event.end().isAfter(start))
+                .toList();
+        }
+    }
+
+    /**
+     * A page for the joiner, the end of the fetch when both fields are null, or the leader's failure.
+     */
+    private record Signal(List<CalendarEvent> page, Throwable failure) {
+
+        static final Signal DONE = new Signal(null, null);
+    }
+}
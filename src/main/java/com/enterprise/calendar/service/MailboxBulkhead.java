@@ -0,0 +1,51 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.config.BulkheadProperties;
+import com.enterprise.calendar.exception.BulkheadFullException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MailboxBulkhead {
+
+    private final BulkheadProperties properties;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    public <T> T execute(String mailbox, Supplier<T> call) {
+        Semaphore semaphore = permits.computeIfAbsent(mailbox,
+            key -> new Semaphore(Math.max(1, properties.getMaxConcurrentCalls()), true));
+
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(properties.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException("Interrupted while waiting for a call permit for mailbox " + mailbox, e);
+        }
+
+        if (!acquired) {
+            log.warn("Rejecting call for mailbox {}: {} concurrent calls already running", mailbox, properties.getMaxConcurrentCalls());
+            throw new BulkheadFullException("Too many concurrent calls for mailbox " + mailbox);
+        }
+
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public int availablePermits(String mailbox) {
+        Semaphore semaphore = permits.get(mailbox);
+        return semaphore != null ? semaphore.availablePermits() : properties.getMaxConcurrentCalls();
+    }
+}
@@ -0,0 +1,132 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.model.calendar.WorkingHours;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * Sweep-line free-slot search over busy intervals expressed in epoch minutes.
+ * <p>
+ * Busy starts and ends are sorted independently; walking both arrays while counting active
+ * intervals yields the merged busy union in one pass, and every point where the count drops
+ * to zero opens a free gap. Gaps are clipped to the search range and the working-hours mask
+ * before being emitted as packed {@code [start, end]} pairs. Intervals that end before they
+ * start are ignored.
+ */
+@Component
+public class SlotFinder {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    public long[] findFreeSlots(long[] busyStarts, long[] busyEnds, long rangeStart, long rangeEnd,
+                                long minDuration, WorkingHours workingHours) {
+        if (busyStarts.length != busyEnds.length) {
+            throw new IllegalArgumentException("Busy starts and ends must have the same length");
+        }
+        if (minDuration <= 0) {
+            throw new IllegalArgumentException("Duration must be greater than zero");
+        }
+
+        // An interval ending before it starts would unbalance the sweep and run it past the ends array
+        int n = 0;
+        long[] starts = new long[busyStarts.length];
+        long[] ends = new long[busyEnds.length];
+        for (int k = 0; k < busyStarts.length; k++) {
+            if (busyStarts[k] <= busyEnds[k]) {
+                starts[n] = busyStarts[k];
+                ends[n] = busyEnds[k];
+                n++;
+            }
+        }
+        if (n < starts.length) {
+            starts = Arrays.copyOf(starts, n);
+            ends = Arrays.copyOf(ends, n);
+        }
+        Arrays.sort(starts);
+        Arrays.sort(ends);
+
+        SlotBuffer slots = new SlotBuffer();
+        int i = 0;
+        int j = 0;
+        int active = 0;
+        long freeSince = rangeStart;
+
+        while (i < n) {
+            if (starts[i] <= ends[j]) {
+                if (active == 0) {
+                    emit(slots, freeSince, starts[i], rangeStart, rangeEnd, minDuration, workingHours);
+                }
+                active++;
+                i++;
+            } else {
+                active--;
+                if (active == 0) {
+                    freeSince = Math.max(freeSince, ends[j]);
+                }
+                j++;
+            }
+        }
+        if (n > 0) {
+            freeSince = Math.max(freeSince, ends[n - 1]);
+        }
+        emit(slots, freeSince, rangeEnd, rangeStart, rangeEnd, minDuration, workingHours);
+
+        return slots.toArray();
+    }
+
+    private void emit(SlotBuffer slots, long from, long to, long rangeStart, long rangeEnd,
+                      long minDuration, WorkingHours workingHours) {
+        long start = Math.max(from, rangeStart);
+        long end = Math.min(to, rangeEnd);
+        if (end - start < minDuration) {
+            return;
+        }
+        if (workingHours.isUnrestricted()) {
+            slots.add(start, end);
+            return;
+        }
+
+        int dayStartOffset = workingHours.start().getHour() * 60 + workingHours.start().getMinute();
+        int dayEndOffset = workingHours.end().equals(LocalTime.MIN)
+            ? MINUTES_PER_DAY
+            : workingHours.end().getHour() * 60 + workingHours.end().getMinute();
+
+        for (long day = Math.floorDiv(start, MINUTES_PER_DAY); day <= Math.floorDiv(end - 1, MINUTES_PER_DAY); day++) {
+            if (!workingHours.includeWeekends() && isWeekend(day)) {
+                continue;
+            }
+            long dayBase = day * MINUTES_PER_DAY;
+            long windowStart = Math.max(start, dayBase + dayStartOffset);
+            long windowEnd = Math.min(end, dayBase + dayEndOffset);
+            if (windowEnd - windowStart >= minDuration) {
+                slots.add(windowStart, windowEnd);
+            }
+        }
+    }
+
+    private static boolean isWeekend(long epochDay) {
+        // 1970-01-01 was a Thursday; shifting by 3 maps Monday to 0
+        int dayOfWeek = (int) Math.floorMod(epochDay + 3, 7L);
+        return dayOfWeek >= 5;
+    }
+
+    private static final class SlotBuffer {
+
+        private long[] values = new long[16];
+        private int size;
+
+        private void add(long start, long end) {
+            if (size + 2 > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = start;
+            values[size++] = end;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
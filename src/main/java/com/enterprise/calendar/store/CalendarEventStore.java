@@ -0,0 +1,80 @@
+package com.enterprise.calendar.store;
+
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class CalendarEventStore {
+
+    public static final String DEFAULT_MAILBOX = "me";
+
+    private final Map<String, Map<YearMonth, SyncWindow>> mailboxes = new ConcurrentHashMap<>();
+    private volatile CalendarSnapshot snapshot;
+
+    public SyncWindow window(String mailbox, YearMonth month) {
+        return mailboxes
+            .computeIfAbsent(mailbox, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(month, key -> {
+                SyncWindow window = new SyncWindow(key);
+                CalendarSnapshot restoreFrom = snapshot;
+                if (restoreFrom != null) {
+                    restoreFrom.restore(mailbox, key, window);
+                }
+                return window;
+            });
+    }
+
+    // Windows are restored from the snapshot as they are first requested
+    public void restoreFrom(CalendarSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public int writeSnapshot(Path path, Instant notSyncedBefore) throws IOException {
+        return CalendarSnapshot.write(path, mailboxes, snapshot, notSyncedBefore);
+    }
+
+    // Updates only the windows already held, the others pick the change up when they are first synced
+    public void applyLocalChange(String mailbox, CalendarEvent event) {
+        Map<YearMonth, SyncWindow> windows = mailboxes.get(mailbox);
+        if (windows != null) {
+            windows.values().forEach(window -> window.applyLocal(event));
+        }
+    }
+
+    public List<CalendarEvent> query(String mailbox, OffsetDateTime start, OffsetDateTime end) {
+        Map<YearMonth, SyncWindow> windows = mailboxes.get(mailbox);
+        if (windows == null) {
+            return List.of();
+        }
+
+        YearMonth firstMonth = YearMonth.from(start);
+        YearMonth lastMonth = YearMonth.from(end);
+        if (firstMonth.equals(lastMonth)) {
+            SyncWindow window = windows.get(firstMonth);
+            return window != null ? window.query(start, end) : List.of();
+        }
+
+        Map<String, CalendarEvent> matches = new LinkedHashMap<>();
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            SyncWindow window = windows.get(month);
+            if (window != null) {
+                window.query(start, end).forEach(event -> matches.putIfAbsent(event.id(), event));
+            }
+        }
+
+        return matches.values().stream()
+            .sorted(Comparator.comparing(CalendarEvent::start))
+            .toList();
+    }
+}
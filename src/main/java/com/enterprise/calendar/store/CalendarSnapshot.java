@@ -0,0 +1,342 @@
+package com.enterprise.calendar.store;
+
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Memory-mapped binary snapshot of synced {@link SyncWindow}s.
+ * <p>
+ * Layout: a fixed header (magic, version, write time, window count, directory offset and a CRC32
+ * of the header fields and the directory), one section per window holding its delta link and
+ * events, then a directory of (mailbox, month, synced at, offset, length, section CRC32) entries.
+ * Opening a snapshot only verifies the header checksum and reads the directory, so sections stay
+ * unread on disk; a window's section is checked and decoded the first time the store asks for that
+ * window. Windows that were never asked for are copied byte for byte, checksum included, into the
+ * next snapshot, so lazy loading does not lose them.
+ */
+@Slf4j
+public final class CalendarSnapshot {
+
+    static final int MAGIC = 0x43414C53; // "CALS"
+    static final short VERSION = 2;
+    static final int HEADER_SIZE = 32;
+    // The header checksum covers the header fields before it
+    private static final int CHECKSUM_OFFSET = 24;
+
+    private static final int NULL_LENGTH = -1;
+    // Epoch second, nano of second (-1 for null) and offset seconds
+    private static final int DATE_TIME_SIZE = Long.BYTES + 2 * Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final Instant writtenAt;
+    private final Map<WindowKey, Section> pending = new ConcurrentHashMap<>();
+
+    private CalendarSnapshot(ByteBuffer buffer, Instant writtenAt) {
+        this.buffer = buffer;
+        this.writtenAt = writtenAt;
+    }
+
+    /**
+     * Maps the snapshot at {@code path}, skipping windows last synced before {@code notSyncedBefore}.
+     *
+     * @throws IOException if the file cannot be read, or is not a snapshot of this version
+     */
+    public static CalendarSnapshot open(Path path, Instant notSyncedBefore) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid calendar snapshot size " + size + " in " + path);
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        if (mapped.getInt(0) != MAGIC) {
+            throw new IOException("Not a calendar snapshot: " + path);
+        }
+        short version = mapped.getShort(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported calendar snapshot version " + version + " in " + path);
+        }
+        Instant writtenAt = Instant.ofEpochMilli(mapped.getLong(8));
+        int windowCount = mapped.getInt(16);
+        int directoryOffset = mapped.getInt(20);
+        if (directoryOffset < HEADER_SIZE || directoryOffset > mapped.capacity()
+            || mapped.getInt(CHECKSUM_OFFSET) != headerChecksum(mapped, directoryOffset)) {
+            throw new IOException("Corrupt calendar snapshot: " + path);
+        }
+
+        CalendarSnapshot snapshot = new CalendarSnapshot(mapped, writtenAt);
+        ByteBuffer directory = mapped.slice(directoryOffset, mapped.capacity() - directoryOffset);
+        for (int i = 0; i < windowCount; i++) {
+            WindowKey key = new WindowKey(getString(directory), YearMonth.of(directory.getShort(), directory.get()));
+            Section section = new Section(Instant.ofEpochMilli(directory.getLong()), directory.getInt(), directory.getInt(),
+                directory.getInt());
+            if (section.offset() < HEADER_SIZE || section.length() < 0 || section.offset() > directoryOffset - section.length()) {
+                throw new IOException("Corrupt calendar snapshot directory: " + path);
+            }
+            if (!section.syncedAt().isBefore(notSyncedBefore)) {
+                // Later entries win, see write()
+                snapshot.pending.put(key, section);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Loads the snapshotted state of {@code mailbox}/{@code month} into {@code window}, at most once per window.
+     * A section that fails its checksum is skipped, so the window is synced from scratch.
+     *
+     * @return whether the snapshot held an intact copy of the window
+     */
+    public boolean restore(String mailbox, YearMonth month, SyncWindow window) {
+        Section section = pending.remove(new WindowKey(mailbox, month));
+        if (section == null) {
+            return false;
+        }
+        if (section.checksum() != checksum(buffer, section.offset(), section.offset() + section.length())) {
+            log.warn("Skipping corrupt snapshot section of window {} of mailbox {}", month, mailbox);
+            return false;
+        }
+        ByteBuffer in = buffer.slice(section.offset(), section.length());
+        String deltaLink = getString(in);
+        int count = in.getInt();
+        List<CalendarEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(new CalendarEvent(
+                getString(in),
+                getString(in),
+                getDateTime(in),
+                getDateTime(in),
+                getString(in),
+                getString(in),
+                getString(in),
+                in.get() != 0
+            ));
+        }
+        window.restore(new SyncWindow.Checkpoint(events, deltaLink, section.syncedAt()));
+        return true;
+    }
+
+    public Instant writtenAt() {
+        return writtenAt;
+    }
+
+    public int pendingWindows() {
+        return pending.size();
+    }
+
+    /**
+     * Writes every synced window in {@code mailboxes}, plus the windows of {@code previous} that were
+     * never restored, to a temporary file that then atomically replaces {@code path}.
+     *
+     * @return the number of windows written
+     */
+    static int write(Path path, Map<String, Map<YearMonth, SyncWindow>> mailboxes, CalendarSnapshot previous,
+                     Instant notSyncedBefore) throws IOException {
+        // Carried-over windows go first so that a window restored while we are writing is overridden
+        // by its live copy when the directory is read back
+        List<Map.Entry<WindowKey, Section>> carried = new ArrayList<>();
+        if (previous != null) {
+            previous.pending.forEach((key, section) -> {
+                if (!section.syncedAt().isBefore(notSyncedBefore)) {
+                    carried.add(Map.entry(key, section));
+                }
+            });
+        }
+        List<Map.Entry<WindowKey, SyncWindow.Checkpoint>> live = new ArrayList<>();
+        mailboxes.forEach((mailbox, windows) -> windows.forEach((month, window) -> {
+            SyncWindow.Checkpoint checkpoint = window.checkpoint();
+            if (checkpoint.deltaLink() != null && checkpoint.syncedAt() != null
+                && !checkpoint.syncedAt().isBefore(notSyncedBefore)) {
+                live.add(Map.entry(new WindowKey(mailbox, month), checkpoint));
+            }
+        }));
+
+        long size = HEADER_SIZE;
+        for (var entry : carried) {
+            size += entry.getValue().length() + directoryEntrySize(entry.getKey());
+        }
+        for (var entry : live) {
+            size += sectionSize(entry.getValue()) + directoryEntrySize(entry.getKey());
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Calendar snapshot too large: " + size + " bytes");
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            out.position(HEADER_SIZE);
+
+            List<Section> sections = new ArrayList<>(carried.size() + live.size());
+            for (var entry : carried) {
+                Section section = entry.getValue();
+                int offset = out.position();
+                out.put(previous.buffer.slice(section.offset(), section.length()));
+                sections.add(new Section(section.syncedAt(), offset, section.length(), section.checksum()));
+            }
+            for (var entry : live) {
+                SyncWindow.Checkpoint checkpoint = entry.getValue();
+                int offset = out.position();
+                putSection(out, checkpoint);
+                sections.add(new Section(checkpoint.syncedAt(), offset, out.position() - offset,
+                    checksum(out, offset, out.position())));
+            }
+
+            int directoryOffset = out.position();
+            for (int i = 0; i < sections.size(); i++) {
+                WindowKey key = i < carried.size() ? carried.get(i).getKey() : live.get(i - carried.size()).getKey();
+                Section section = sections.get(i);
+                putString(out, key.mailbox());
+                out.putShort((short) key.month().getYear());
+                out.put((byte) key.month().getMonthValue());
+                out.putLong(section.syncedAt().toEpochMilli());
+                out.putInt(section.offset());
+                out.putInt(section.length());
+                out.putInt(section.checksum());
+            }
+
+            out.putInt(0, MAGIC);
+            out.putShort(4, VERSION);
+            out.putShort(6, (short) 0);
+            out.putLong(8, Instant.now().toEpochMilli());
+            out.putInt(16, sections.size());
+            out.putInt(20, directoryOffset);
+            out.putInt(CHECKSUM_OFFSET, headerChecksum(out, directoryOffset));
+            out.putInt(28, 0);
+            out.force();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return carried.size() + live.size();
+    }
+
+    private static void putSection(ByteBuffer out, SyncWindow.Checkpoint checkpoint) {
+        putString(out, checkpoint.deltaLink());
+        out.putInt(checkpoint.events().size());
+        for (CalendarEvent event : checkpoint.events()) {
+            putString(out, event.id());
+            putString(out, event.subject());
+            putDateTime(out, event.start());
+            putDateTime(out, event.end());
+            putString(out, event.location());
+            putString(out, event.organizerName());
+            putString(out, event.organizerEmail());
+            out.put((byte) (event.isAllDay() ? 1 : 0));
+        }
+    }
+
+    private static long sectionSize(SyncWindow.Checkpoint checkpoint) {
+        long size = stringSize(checkpoint.deltaLink()) + Integer.BYTES;
+        for (CalendarEvent event : checkpoint.events()) {
+            size += stringSize(event.id()) + stringSize(event.subject())
+                + 2 * DATE_TIME_SIZE
+                + stringSize(event.location()) + stringSize(event.organizerName()) + stringSize(event.organizerEmail())
+                + 1;
+        }
+        return size;
+    }
+
+    private static long directoryEntrySize(WindowKey key) {
+        return stringSize(key.mailbox()) + Short.BYTES + 1 + Long.BYTES + 3 * Integer.BYTES;
+    }
+
+    private static void putDateTime(ByteBuffer out, OffsetDateTime dateTime) {
+        if (dateTime == null) {
+            out.putLong(0).putInt(NULL_LENGTH).putInt(0);
+            return;
+        }
+        out.putLong(dateTime.toEpochSecond()).putInt(dateTime.getNano()).putInt(dateTime.getOffset().getTotalSeconds());
+    }
+
+    private static OffsetDateTime getDateTime(ByteBuffer in) {
+        long epochSecond = in.getLong();
+        int nano = in.getInt();
+        int offsetSeconds = in.getInt();
+        if (nano == NULL_LENGTH) {
+            return null;
+        }
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    private static void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putInt(bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int stringSize(String value) {
+        return Integer.BYTES + (value == null ? 0 : utf8Length(value));
+    }
+
+    // Matches String.getBytes(UTF_8), which encodes unpaired surrogates as a single '?'
+    static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static int checksum(ByteBuffer buffer, int from, int to) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(from, to - from));
+        return (int) crc.getValue();
+    }
+
+    private static int headerChecksum(ByteBuffer buffer, int directoryOffset) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, CHECKSUM_OFFSET));
+        crc.update(buffer.slice(directoryOffset, buffer.capacity() - directoryOffset));
+        return (int) crc.getValue();
+    }
+
+    private record WindowKey(String mailbox, YearMonth month) {}
+
+    private record Section(Instant syncedAt, int offset, int length, int checksum) {}
+}
@@ -0,0 +1,180 @@
+package com.enterprise.calendar.store;
+
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Interval index over {@link CalendarEvent} start/end epoch seconds.
+ * <p>
+ * Randomized treap ordered by (start, id) where every node also tracks the maximum end of its
+ * subtree, so overlap queries prune whole subtrees and run in O(log n + k) expected time while
+ * inserts and removals from incremental sync stay O(log n). Not thread-safe; callers guard access.
+ */
+public class EventIntervalIndex {
+
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+    private int size;
+
+    public void insert(CalendarEvent event) {
+        if (event.start() == null || event.end() == null) {
+            return;
+        }
+        Node node = new Node(event.start().toEpochSecond(), event.end().toEpochSecond(), event, random.nextInt());
+        root = insert(root, node);
+        size++;
+    }
+
+    public boolean remove(CalendarEvent event) {
+        if (event == null || event.start() == null || event.end() == null) {
+            return false;
+        }
+        int before = size;
+        root = remove(root, event.start().toEpochSecond(), event.id());
+        return size < before;
+    }
+
+    /**
+     * Returns events with {@code start <= end} and {@code event.end > start}, ordered by start.
+     */
+    public List<CalendarEvent> query(long start, long end) {
+        List<CalendarEvent> matches = new ArrayList<>();
+        collect(root, start, end, matches);
+        return matches;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    private Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.event.id(), node) < 0) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node remove(Node node, long start, String id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            size--;
+            return merge(node.left, node.right);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private void collect(Node node, long start, long end, List<CalendarEvent> matches) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, matches);
+        if (node.start > end) {
+            return;
+        }
+        if (node.end > start) {
+            matches.add(node.event);
+        }
+        collect(node.right, start, end, matches);
+    }
+
+    private Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        update(node);
+        left.right = node;
+        update(left);
+        return left;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        update(node);
+        right.left = node;
+        update(right);
+        return right;
+    }
+
+    private static int compare(long start, String id, Node node) {
+        int cmp = Long.compare(start, node.start);
+        if (cmp != 0) {
+            return cmp;
+        }
+        return String.valueOf(id).compareTo(String.valueOf(node.event.id()));
+    }
+
+    private static void update(Node node) {
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static final class Node {
+
+        private final long start;
+        private final long end;
+        private final CalendarEvent event;
+        private final int priority;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(long start, long end, CalendarEvent event, int priority) {
+            this.start = start;
+            this.end = end;
+            this.event = event;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.enterprise.calendar.store;
+
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Getter
+public class SyncWindow {
+
+    private final YearMonth month;
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Map<String, CalendarEvent> events = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final EventIntervalIndex index = new EventIntervalIndex();
+    private volatile String deltaLink;
+    private volatile Instant lastSyncedAt;
+
+    public SyncWindow(YearMonth month) {
+        this.month = month;
+    }
+
+    public OffsetDateTime start() {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    public OffsetDateTime end() {
+        return month.plusMonths(1).atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    public boolean isFresh(Instant now, Duration refreshInterval) {
+        Instant syncedAt = lastSyncedAt;
+        return syncedAt != null && syncedAt.plus(refreshInterval).isAfter(now);
+    }
+
+    public synchronized void applyDelta(List<CalendarEvent> changed, List<String> removedIds, String deltaLink, Instant syncedAt) {
+        removedIds.forEach(id -> index.remove(events.remove(id)));
+        changed.forEach(event -> {
+            index.remove(events.put(event.id(), event));
+            index.insert(event);
+        });
+        this.deltaLink = deltaLink;
+        this.lastSyncedAt = syncedAt;
+    }
+
+    // A change this service made itself, held until the next delta confirms it; the sync state is left alone
+    public synchronized void applyLocal(CalendarEvent event) {
+        index.remove(events.remove(event.id()));
+        if (event.start() != null && event.end() != null && event.start().isBefore(end()) && event.end().isAfter(start())) {
+            events.put(event.id(), event);
+            index.insert(event);
+        }
+    }
+
+    public synchronized void reset() {
+        events.clear();
+        index.clear();
+        deltaLink = null;
+        lastSyncedAt = null;
+    }
+
+    public synchronized List<CalendarEvent> query(OffsetDateTime start, OffsetDateTime end) {
+        return index.query(start.toEpochSecond(), end.toEpochSecond());
+    }
+
+    public synchronized List<CalendarEvent> snapshot() {
+        return new ArrayList<>(events.values());
+    }
+
+    public synchronized Checkpoint checkpoint() {
+        return new Checkpoint(new ArrayList<>(events.values()), deltaLink, lastSyncedAt);
+    }
+
+    public synchronized void restore(Checkpoint checkpoint) {
+        reset();
+        checkpoint.events().forEach(event -> {
+            events.put(event.id(), event);
+            index.insert(event);
+        });
+        deltaLink = checkpoint.deltaLink();
+        lastSyncedAt = checkpoint.syncedAt();
+    }
+
+    // Events and delta token of a window as of one sync, for snapshots
+    public record Checkpoint(List<CalendarEvent> events, String deltaLink, Instant syncedAt) {}
+}
@@ -1,6 +1,7 @@
 package com.enterprise.calendar.util;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
@@ -28,6 +29,19 @@ public class DateUtils {
         }
     }
 
+    // Local datetimes are taken as UTC, datetimes with an offset are converted to UTC
+    public static OffsetDateTime parseDateTime(String dateTimeString) {
+        try {
+            return LocalDateTime.parse(dateTimeString).atOffset(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            try {
+                return OffsetDateTime.parse(dateTimeString).withOffsetSameInstant(ZoneOffset.UTC);
+            } catch (DateTimeParseException ignored) {
+                throw new IllegalArgumentException("Invalid datetime format: " + dateTimeString + ". Expected format: yyyy-MM-dd'T'HH:mm:ss", e);
+            }
+        }
+    }
+
     public static void validateDateRange(String startDate, String endDate) {
         OffsetDateTime start = parseStartOfDay(startDate);
         OffsetDateTime end = parseEndOfDay(endDate);
@@ -0,0 +1,122 @@
+package com.enterprise.calendar.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.zone.ZoneRules;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decodes Graph {@code dateTimeTimeZone} values ({@code yyyy-MM-ddTHH:mm:ss[.fffffff]} plus a
+ * time zone name) straight into epoch seconds, without building intermediate strings or
+ * temporal objects. Fractional seconds are validated but dropped.
+ */
+@Slf4j
+public class GraphDateTimeParser {
+
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final int DATE_TIME_LENGTH = 19;
+    private static final int MAX_FRACTION_DIGITS = 9;
+    private static final ZoneRules UTC_RULES = ZoneOffset.UTC.getRules();
+    private static final Map<String, ZoneRules> ZONE_RULES = new ConcurrentHashMap<>();
+
+    public static long toEpochSecond(CharSequence text, ZoneRules rules) {
+        int length = text.length();
+        if (length < DATE_TIME_LENGTH
+            || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T'
+            || text.charAt(13) != ':' || text.charAt(16) != ':') {
+            throw new DateTimeParseException("Expected yyyy-MM-ddTHH:mm:ss", text, 0);
+        }
+
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+
+        if (length > DATE_TIME_LENGTH) {
+            if (text.charAt(DATE_TIME_LENGTH) != '.' || length == DATE_TIME_LENGTH + 1
+                || length - DATE_TIME_LENGTH - 1 > MAX_FRACTION_DIGITS) {
+                throw new DateTimeParseException("Invalid fractional seconds", text, DATE_TIME_LENGTH);
+            }
+            digits(text, DATE_TIME_LENGTH + 1, length - DATE_TIME_LENGTH - 1);
+        }
+
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+            || hour > 23 || minute > 59 || second > 59) {
+            throw new DateTimeParseException("Date-time field out of range", text, 0);
+        }
+
+        long local = epochDay(year, month, day) * 86_400L + hour * 3_600L + minute * 60L + second;
+        if (rules.isFixedOffset()) {
+            return local - rules.getOffset(Instant.EPOCH).getTotalSeconds();
+        }
+        // Guess the offset at the local time read as UTC, then correct with the offset at the guessed instant
+        int guess = rules.getOffset(Instant.ofEpochSecond(local)).getTotalSeconds();
+        return local - rules.getOffset(Instant.ofEpochSecond(local - guess)).getTotalSeconds();
+    }
+
+    public static ZoneRules rulesFor(String timeZone) {
+        if (timeZone == null || timeZone.isEmpty() || "UTC".equals(timeZone)) {
+            return UTC_RULES;
+        }
+        return ZONE_RULES.computeIfAbsent(timeZone, GraphDateTimeParser::resolveRules);
+    }
+
+    private static ZoneRules resolveRules(String timeZone) {
+        try {
+            return ZoneId.of(timeZone).getRules();
+        } catch (DateTimeException e) {
+            log.warn("Unknown time zone '{}' in MS Graph response, reading its date-times as UTC", timeZone);
+            return UTC_RULES;
+        }
+    }
+
+    private static int digits(CharSequence text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new DateTimeParseException("Expected a digit", text, i);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static long epochDay(long year, int month, int day) {
+        // Same arithmetic as LocalDate.toEpochDay
+        long total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static int lengthOfMonth(long year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private GraphDateTimeParser() {
+        // Utility class, prevent instantiation
+    }
+}
@@ -0,0 +1,56 @@
+package com.enterprise.calendar.benchmark;
+
+import com.enterprise.calendar.service.CalendarEventMapper;
+import com.microsoft.graph.models.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarEventMapperBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int eventCount;
+
+    private final CalendarEventMapper mapper = new CalendarEventMapper();
+    private List<Event> events;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        events = GraphEventDatasets.graphEvents(eventCount);
+    }
+
+    @Benchmark
+    public void toCalendarEvent(Blackhole blackhole) {
+        for (Event event : events) {
+            blackhole.consume(mapper.toCalendarEvent(event));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CalendarEventMapperBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
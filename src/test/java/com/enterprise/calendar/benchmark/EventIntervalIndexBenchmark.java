@@ -0,0 +1,102 @@
+package com.enterprise.calendar.benchmark;
+
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.store.EventIntervalIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventIntervalIndexBenchmark {
+
+    private static final long RANGE_START = OffsetDateTime.parse("2020-01-01T00:00:00Z").toEpochSecond();
+    private static final long RANGE_SECONDS = TimeUnit.DAYS.toSeconds(5 * 365);
+    private static final long WEEK_SECONDS = TimeUnit.DAYS.toSeconds(7);
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"10000", "100000", "1000000"})
+    private int eventCount;
+
+    private final List<CalendarEvent> events = new ArrayList<>();
+    private final EventIntervalIndex index = new EventIntervalIndex();
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final long[] queryStarts = new long[QUERY_COUNT];
+    private int nextQuery;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        for (int i = 0; i < eventCount; i++) {
+            long start = RANGE_START + random.nextLong(RANGE_SECONDS);
+            long end = start + TimeUnit.MINUTES.toSeconds(15 + random.nextInt(120));
+            CalendarEvent event = new CalendarEvent(
+                "event-" + i,
+                "Meeting " + i,
+                OffsetDateTime.ofInstant(Instant.ofEpochSecond(start), ZoneOffset.UTC),
+                OffsetDateTime.ofInstant(Instant.ofEpochSecond(end), ZoneOffset.UTC),
+                null, null, null, false
+            );
+            events.add(event);
+            index.insert(event);
+        }
+        // Level.Invocation setup would add its own overhead to every sub-microsecond query
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queryStarts[i] = RANGE_START + random.nextLong(RANGE_SECONDS - WEEK_SECONDS);
+        }
+    }
+
+    @Benchmark
+    public List<CalendarEvent> intervalIndex() {
+        long queryStart = nextQueryStart();
+        return index.query(queryStart, queryStart + WEEK_SECONDS);
+    }
+
+    @Benchmark
+    public List<CalendarEvent> linearScan() {
+        long queryStart = nextQueryStart();
+        long queryEnd = queryStart + WEEK_SECONDS;
+        List<CalendarEvent> matches = new ArrayList<>();
+        for (CalendarEvent event : events) {
+            if (event.start().toEpochSecond() <= queryEnd && event.end().toEpochSecond() > queryStart) {
+                matches.add(event);
+            }
+        }
+        return matches;
+    }
+
+    private long nextQueryStart() {
+        long queryStart = queryStarts[nextQuery];
+        nextQuery = (nextQuery + 1) & (QUERY_COUNT - 1);
+        return queryStart;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(EventIntervalIndexBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,87 @@
+package com.enterprise.calendar.benchmark;
+
+import com.enterprise.calendar.config.BulkheadProperties;
+import com.enterprise.calendar.mcp.CalendarToolsProvider;
+import com.enterprise.calendar.mcp.JsonBufferPool;
+import com.enterprise.calendar.mcp.schema.GetEventsArguments;
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.service.MailboxBulkhead;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a get_events result into the tool response: Jackson serialization on its own
+ * and the whole {@code handleGetEvents} call around it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetEventsSerializationBenchmark {
+
+    private static final GetEventsArguments ARGUMENTS =
+        GetEventsArguments.BINDER.bind(Map.of("start_date", "2025-01-01", "end_date", "2025-12-31"));
+
+    @Param({"100", "1000", "10000"})
+    private int eventCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private List<CalendarEvent> events;
+    private CalendarToolsProvider toolsProvider;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        events = GraphEventDatasets.calendarEvents(eventCount);
+        toolsProvider = new CalendarToolsProvider(
+            new StubCalendarService(events, Duration.ZERO),
+            objectMapper,
+            new MailboxBulkhead(new BulkheadProperties()),
+            new JsonBufferPool(),
+            new SimpleMeterRegistry(),
+            Tracer.NOOP,
+            Propagator.NOOP
+        );
+    }
+
+    @Benchmark
+    public String writeValueAsString() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(events);
+    }
+
+    @Benchmark
+    public CallToolResult handleGetEvents() {
+        return toolsProvider.handleGetEvents(null, ARGUMENTS);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(GetEventsSerializationBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,93 @@
+package com.enterprise.calendar.benchmark;
+
+import com.enterprise.calendar.util.GraphDateTimeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the string-based date-time decoding CalendarEventMapper used to do with
+ * {@link GraphDateTimeParser}, over a batch of Graph-formatted values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphDateTimeParserBenchmark {
+
+    private static final int VALUES = 1024;
+    private static final DateTimeFormatter GRAPH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'.0000000'");
+
+    @Param({"UTC", "Europe/Paris"})
+    private String timeZone;
+
+    private final String[] values = new String[VALUES];
+
+    @Setup(Level.Trial)
+    public void generate() {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = base.plusMinutes(random.nextInt(365 * 24 * 60)).format(GRAPH_FORMAT);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void stringConcatAndParse(Blackhole blackhole) {
+        for (String value : values) {
+            String dateTimeString = value;
+            if (dateTimeString.contains(".")) {
+                dateTimeString = dateTimeString.substring(0, dateTimeString.indexOf('.'));
+            }
+            blackhole.consume(OffsetDateTime.parse(dateTimeString + "Z"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void fixedLayoutParser(Blackhole blackhole) {
+        for (String value : values) {
+            long epochSecond = GraphDateTimeParser.toEpochSecond(value, GraphDateTimeParser.rulesFor(timeZone));
+            blackhole.consume(OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void fixedLayoutParserEpochOnly(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(GraphDateTimeParser.toEpochSecond(value, GraphDateTimeParser.rulesFor(timeZone)));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(GraphDateTimeParserBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,78 @@
+package com.enterprise.calendar.benchmark;
+
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.service.CalendarEventMapper;
+import com.microsoft.graph.models.DateTimeTimeZone;
+import com.microsoft.graph.models.EmailAddress;
+import com.microsoft.graph.models.Event;
+import com.microsoft.graph.models.ItemBody;
+import com.microsoft.graph.models.Location;
+import com.microsoft.graph.models.Recipient;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic Graph events shaped like a calendarView response.
+ */
+final class GraphEventDatasets {
+
+    private static final DateTimeFormatter GRAPH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'.0000000'");
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 8, 0);
+    private static final String[] ROOMS = {"Conference Room A", "Conference Room B", "Teams Meeting", "Board Room"};
+
+    static List<Event> graphEvents(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = BASE.plusDays(random.nextInt(365)).plusMinutes(15L * random.nextInt(40));
+            LocalDateTime end = start.plusMinutes(15L * (1 + random.nextInt(8)));
+
+            Event event = new Event();
+            event.setId("AAMkAGI2TG93AAA=" + i);
+            event.setSubject("Meeting " + i);
+            event.setStart(dateTime(start));
+            event.setEnd(dateTime(end));
+            event.setIsAllDay(random.nextInt(50) == 0);
+
+            Location location = new Location();
+            location.setDisplayName(ROOMS[random.nextInt(ROOMS.length)]);
+            event.setLocation(location);
+
+            EmailAddress organizer = new EmailAddress();
+            organizer.setName("Organizer " + random.nextInt(100));
+            organizer.setAddress("organizer" + random.nextInt(100) + "@company.com");
+            Recipient recipient = new Recipient();
+            recipient.setEmailAddress(organizer);
+            event.setOrganizer(recipient);
+
+            ItemBody body = new ItemBody();
+            body.setContent("Agenda for meeting " + i);
+            event.setBody(body);
+
+            events.add(event);
+        }
+        return events;
+    }
+
+    static List<CalendarEvent> calendarEvents(int count) {
+        CalendarEventMapper mapper = new CalendarEventMapper();
+        return graphEvents(count).stream()
+            .map(mapper::toCalendarEvent)
+            .toList();
+    }
+
+    private static DateTimeTimeZone dateTime(LocalDateTime value) {
+        DateTimeTimeZone dateTime = new DateTimeTimeZone();
+        dateTime.setDateTime(value.format(GRAPH_FORMAT));
+        dateTime.setTimeZone("UTC");
+        return dateTime;
+    }
+
+    private GraphEventDatasets() {
+        // Utility class, prevent instantiation
+    }
+}
@@ -0,0 +1,92 @@
+package com.enterprise.calendar.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.json.TypeRef;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCMessage;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCNotification;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCRequest;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCResponse;
+import io.modelcontextprotocol.spec.McpServerSession;
+import io.modelcontextprotocol.spec.McpServerTransport;
+import io.modelcontextprotocol.spec.McpServerTransportProvider;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-session MCP transport that feeds JSON-RPC messages straight into the server session,
+ * so benchmarks measure request dispatch without HTTP or SSE in the way.
+ */
+final class InProcessMcpTransport implements McpServerTransportProvider {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Object, CompletableFuture<JSONRPCResponse>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong requestIds = new AtomicLong();
+    private McpServerSession.Factory sessionFactory;
+    private McpServerSession session;
+
+    InProcessMcpTransport(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void setSessionFactory(McpServerSession.Factory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public Mono<Void> notifyClients(String method, Object params) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> closeGracefully() {
+        return session != null ? session.closeGracefully() : Mono.empty();
+    }
+
+    void connect() {
+        session = sessionFactory.create(new SessionTransport());
+        request(McpSchema.METHOD_INITIALIZE, Map.of(
+            "protocolVersion", McpSchema.LATEST_PROTOCOL_VERSION,
+            "capabilities", Map.of(),
+            "clientInfo", Map.of("name", "benchmark", "version", "1.0.0")
+        ));
+        session.handle(new JSONRPCNotification(McpSchema.JSONRPC_VERSION, McpSchema.METHOD_NOTIFICATION_INITIALIZED, null)).block();
+    }
+
+    JSONRPCResponse request(String method, Object params) {
+        String id = "request-" + requestIds.incrementAndGet();
+        CompletableFuture<JSONRPCResponse> response = new CompletableFuture<>();
+        pending.put(id, response);
+        session.handle(new JSONRPCRequest(McpSchema.JSONRPC_VERSION, method, id, params)).block();
+        return response.join();
+    }
+
+    private final class SessionTransport implements McpServerTransport {
+
+        @Override
+        public Mono<Void> sendMessage(JSONRPCMessage message) {
+            if (message instanceof JSONRPCResponse response) {
+                CompletableFuture<JSONRPCResponse> future = pending.remove(response.id());
+                if (future != null) {
+                    future.complete(response);
+                }
+            }
+            return Mono.empty();
+        }
+
+        @Override
+        public <T> T unmarshalFrom(Object data, TypeRef<T> typeRef) {
+            return objectMapper.convertValue(data, objectMapper.constructType(typeRef.getType()));
+        }
+
+        @Override
+        public Mono<Void> closeGracefully() {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.enterprise.calendar.benchmark;
+
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientSseClientTransport;
+import io.modelcontextprotocol.spec.McpError;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from process start to the first answered {@code tools/call}, for the plain JVM jar, the
+ * AOT-processed jar with a CDS archive and the native image.
+ * <p>
+ * Not a JMH benchmark, as every sample is a fresh process. Build the artifacts as described in the
+ * README, then run from the project root:
+ * <pre>
+ * ./mvnw -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.enterprise.calendar.benchmark.StartupTimeBenchmark [-Dexec.args="10 jvm cds native"]
+ * </pre>
+ * The call is a get_events with an inverted date range, which is answered with an error before any
+ * Graph request, so the numbers do not depend on Azure AD or Graph latency.
+ */
+public class StartupTimeBenchmark {
+
+    private static final Path TARGET = Path.of("target");
+    private static final String JAR = "calendar-mcp-service-0.0.1-SNAPSHOT.jar";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+    private static final CallToolRequest FIRST_CALL = new CallToolRequest("get_events",
+        Map.of("start_date", "2025-10-31", "end_date", "2025-10-01"));
+
+    private static final Map<String, Mode> MODES = new LinkedHashMap<>();
+
+    static {
+        MODES.put("jvm", new Mode(TARGET.resolve(JAR),
+            List.of("java", "-jar", TARGET.resolve(JAR).toString())));
+        MODES.put("cds", new Mode(TARGET.resolve("application/application.jsa"),
+            List.of("java", "-XX:SharedArchiveFile=" + TARGET.resolve("application/application.jsa"),
+                "-Dspring.aot.enabled=true", "-jar", TARGET.resolve("application").resolve(JAR).toString())));
+        MODES.put("native", new Mode(TARGET.resolve("calendar-mcp-service"),
+            List.of(TARGET.resolve("calendar-mcp-service").toString())));
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        List<String> modes = args.length > 1 ? Arrays.asList(args).subList(1, args.length) : List.copyOf(MODES.keySet());
+
+        System.out.printf("%-8s %8s %8s %8s  (ms to first tools/call, %d runs)%n", "mode", "min", "median", "max", runs);
+        for (String name : modes) {
+            Mode mode = MODES.get(name);
+            if (mode == null) {
+                throw new IllegalArgumentException("Unknown mode " + name + ", expected one of " + MODES.keySet());
+            }
+            if (!Files.exists(mode.artifact())) {
+                System.out.printf("%-8s skipped, %s not built%n", name, mode.artifact());
+                continue;
+            }
+
+            long[] samples = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                samples[i] = timeToFirstCall(mode.command());
+            }
+            Arrays.sort(samples);
+            System.out.printf("%-8s %8d %8d %8d%n", name, samples[0], samples[runs / 2], samples[runs - 1]);
+        }
+    }
+
+    private static long timeToFirstCall(List<String> command) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> processCommand = new ArrayList<>(command);
+        processCommand.add("--server.port=" + port);
+        processCommand.add("--microsoft.graph.warmup.enabled=false");
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(processCommand)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try (McpSyncClient client = connect(port, process, started + STARTUP_TIMEOUT.toNanos())) {
+            try {
+                client.callTool(FIRST_CALL);
+            } catch (McpError expected) {
+                // The inverted range is rejected, which still is an answered call
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static McpSyncClient connect(int port, Process process, long deadline) throws InterruptedException {
+        while (true) {
+            McpSyncClient client = McpClient.sync(HttpClientSseClientTransport.builder("http://localhost:" + port).build())
+                .requestTimeout(Duration.ofSeconds(10))
+                .build();
+            try {
+                client.initialize();
+                return client;
+            } catch (RuntimeException e) {
+                client.close();
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Server exited with " + process.exitValue() + " before answering", e);
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Server did not answer within " + STARTUP_TIMEOUT, e);
+                }
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Mode(Path artifact, List<String> command) {}
+}
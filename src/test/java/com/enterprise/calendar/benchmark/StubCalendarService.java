@@ -0,0 +1,36 @@
+package com.enterprise.calendar.benchmark;
+
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.service.CalendarService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * CalendarService that answers get_events from a fixed dataset, optionally after a simulated
+ * Graph round trip.
+ */
+final class StubCalendarService extends CalendarService {
+
+    private final List<CalendarEvent> events;
+    private final Duration latency;
+
+    StubCalendarService(List<CalendarEvent> events, Duration latency) {
+        super(null, null, null, null, null, null, null, null);
+        this.events = events;
+        this.latency = latency;
+    }
+
+    @Override
+    public void streamEvents(String mailbox, String startDate, String endDate, Consumer<List<CalendarEvent>> pageConsumer) {
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        pageConsumer.accept(events);
+    }
+}
@@ -0,0 +1,102 @@
+package com.enterprise.calendar.benchmark;
+
+import com.enterprise.calendar.config.BulkheadProperties;
+import com.enterprise.calendar.mcp.CalendarToolsProvider;
+import com.enterprise.calendar.mcp.JsonBufferPool;
+import com.enterprise.calendar.service.MailboxBulkhead;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import io.modelcontextprotocol.server.McpServer;
+import io.modelcontextprotocol.server.McpSyncServer;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.JSONRPCResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@code tools/call} for get_events through an in-process {@link McpSyncServer}:
+ * JSON-RPC dispatch, argument unmarshalling, the bulkhead, the handler and result serialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToolDispatchBenchmark {
+
+    private static final Map<String, Object> GET_EVENTS_CALL = Map.of(
+        "name", "get_events",
+        "arguments", Map.of("start_date", "2025-01-01", "end_date", "2025-12-31")
+    );
+
+    @Param({"0", "100", "1000"})
+    private int eventCount;
+
+    private McpSyncServer server;
+    private InProcessMcpTransport transport;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        CalendarToolsProvider toolsProvider = new CalendarToolsProvider(
+            new StubCalendarService(GraphEventDatasets.calendarEvents(eventCount), Duration.ZERO),
+            objectMapper,
+            new MailboxBulkhead(new BulkheadProperties()),
+            new JsonBufferPool(),
+            new SimpleMeterRegistry(),
+            Tracer.NOOP,
+            Propagator.NOOP
+        );
+
+        transport = new InProcessMcpTransport(objectMapper);
+        server = McpServer.sync(transport)
+            .serverInfo("calendar-mcp-service", "1.0.0")
+            .capabilities(McpSchema.ServerCapabilities.builder()
+                .tools(true)
+                .build())
+            .build();
+        toolsProvider.registerTools(server);
+        transport.connect();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public JSONRPCResponse toolsCall() {
+        JSONRPCResponse response = transport.request(McpSchema.METHOD_TOOLS_CALL, GET_EVENTS_CALL);
+        if (response.error() != null) {
+            throw new IllegalStateException("tools/call failed: " + response.error().message());
+        }
+        return response;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ToolDispatchBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,117 @@
+package com.enterprise.calendar.benchmark;
+
+import com.enterprise.calendar.config.BulkheadProperties;
+import com.enterprise.calendar.mcp.CalendarToolsProvider;
+import com.enterprise.calendar.mcp.JsonBufferPool;
+import com.enterprise.calendar.mcp.schema.GetEventsArguments;
+import com.enterprise.calendar.service.MailboxBulkhead;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test for concurrent get_events calls against a Graph stub with fixed latency.
+ * <p>
+ * Compares a platform-thread pool sized like Tomcat's default (200 threads) with one virtual
+ * thread per call. Each invocation fires {@link #CALLS} tool calls; throughput is reported per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ToolThreadingBenchmark {
+
+    private static final int CALLS = 2000;
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final GetEventsArguments ARGUMENTS =
+        GetEventsArguments.BINDER.bind(Map.of("start_date", "2025-10-01", "end_date", "2025-10-31"));
+
+    @Param({"20", "50"})
+    private int graphLatencyMillis;
+
+    private CalendarToolsProvider toolsProvider;
+    private ExecutorService platformThreads;
+    private ExecutorService virtualThreads;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BulkheadProperties bulkheadProperties = new BulkheadProperties();
+        bulkheadProperties.setMaxConcurrentCalls(Integer.MAX_VALUE);
+        bulkheadProperties.setMaxWait(Duration.ofMinutes(1));
+
+        toolsProvider = new CalendarToolsProvider(
+            new StubCalendarService(List.of(), Duration.ofMillis(graphLatencyMillis)),
+            new ObjectMapper(),
+            new MailboxBulkhead(bulkheadProperties),
+            new JsonBufferPool(),
+            new SimpleMeterRegistry(),
+            Tracer.NOOP,
+            Propagator.NOOP
+        );
+        platformThreads = Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+        virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        platformThreads.shutdownNow();
+        virtualThreads.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public void platformThreadPool() throws Exception {
+        runCalls(platformThreads);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public void virtualThreadPerCall() throws Exception {
+        runCalls(virtualThreads);
+    }
+
+    private void runCalls(ExecutorService executor) throws Exception {
+        List<Future<?>> calls = new ArrayList<>(CALLS);
+        for (int i = 0; i < CALLS; i++) {
+            calls.add(executor.submit(() -> toolsProvider.handleGetEvents(null, ARGUMENTS)));
+        }
+        for (Future<?> call : calls) {
+            call.get();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ToolThreadingBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
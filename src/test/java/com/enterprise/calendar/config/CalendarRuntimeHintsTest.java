@@ -0,0 +1,42 @@
+package com.enterprise.calendar.config;
+
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.model.calendar.TimeSlot;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new CalendarRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void shouldRegisterMcpMessagesForJsonBinding() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(McpSchema.JSONRPCRequest.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(McpSchema.CallToolRequest.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(McpSchema.CallToolResult.class)).accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterToolResultRecordsForJsonBinding() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(CalendarEvent.class.getMethod("subject"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(TimeSlot.class.getMethod("durationMinutes"))).accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterTransportResources() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("okhttp3/internal/publicsuffix/publicsuffixes.gz"))
+            .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("azure-core.properties")).accepts(hints);
+    }
+}
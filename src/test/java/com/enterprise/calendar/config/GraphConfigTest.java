@@ -0,0 +1,55 @@
+package com.enterprise.calendar.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphConfigTest {
+
+    private GraphProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GraphProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldApplyConfiguredTimeoutsAndProtocols() {
+        properties.getHttp().setConnectTimeout(Duration.ofSeconds(2));
+        properties.getHttp().setReadTimeout(Duration.ofSeconds(10));
+        properties.getHttp().setCallTimeout(Duration.ofSeconds(20));
+
+        OkHttpClient client = new GraphConfig(properties).graphHttpClient(Tracer.NOOP, meterRegistry);
+
+        assertThat(client.connectTimeoutMillis()).isEqualTo(2_000);
+        assertThat(client.readTimeoutMillis()).isEqualTo(10_000);
+        assertThat(client.callTimeoutMillis()).isEqualTo(20_000);
+        assertThat(client.protocols()).containsExactly(Protocol.HTTP_2, Protocol.HTTP_1_1);
+    }
+
+    @Test
+    void shouldFallBackToHttp1WhenHttp2IsDisabled() {
+        properties.getHttp().setHttp2(false);
+
+        OkHttpClient client = new GraphConfig(properties).graphHttpClient(Tracer.NOOP, meterRegistry);
+
+        assertThat(client.protocols()).containsExactly(Protocol.HTTP_1_1);
+    }
+
+    @Test
+    void shouldReportConnectionPoolUsage() {
+        new GraphConfig(properties).graphHttpClient(Tracer.NOOP, meterRegistry);
+
+        assertThat(meterRegistry.get("graph.http.pool.connection.count").tag("state", "idle").gauge().value()).isZero();
+        assertThat(meterRegistry.find("graph.http.pool.connection.limit").gauge()).isNull();
+    }
+}
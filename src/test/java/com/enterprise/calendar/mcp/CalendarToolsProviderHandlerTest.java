@@ -1,23 +1,57 @@
 package com.enterprise.calendar.mcp;
 
+import com.enterprise.calendar.config.BulkheadProperties;
+import com.enterprise.calendar.exception.InvalidToolArgumentsException;
+import com.enterprise.calendar.mcp.schema.BlockDatesArguments;
+import com.enterprise.calendar.mcp.schema.FindSlotsArguments;
+import com.enterprise.calendar.mcp.schema.GetEventsArguments;
+import com.enterprise.calendar.mcp.schema.RescheduleEventArguments;
+import com.enterprise.calendar.model.calendar.AvailableSlots;
+import com.enterprise.calendar.model.calendar.BlockResult;
 import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.model.calendar.RescheduleResult;
+import com.enterprise.calendar.model.calendar.TimeSlot;
+import com.enterprise.calendar.model.calendar.WorkingHours;
 import com.enterprise.calendar.service.CalendarService;
+import com.enterprise.calendar.service.MailboxBulkhead;
+import com.enterprise.calendar.store.CalendarEventStore;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.server.McpSyncServer;
 import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
 import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpSchema.TextContent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,7 +64,22 @@ class CalendarToolsProviderHandlerTest {
     private McpSyncServerExchange exchange;
 
     @Spy
-    private ObjectMapper objectMapper;
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private JsonBufferPool bufferPool = new JsonBufferPool();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private Tracer tracer = new SimpleTracer();
+
+    @Mock
+    private Propagator propagator;
+
+    @Spy
+    private MailboxBulkhead bulkhead = new MailboxBulkhead(new BulkheadProperties());
 
     @InjectMocks
     private CalendarToolsProvider toolsProvider;
@@ -43,15 +92,14 @@ class CalendarToolsProviderHandlerTest {
             null, null, null, null, null, false
         );
 
-        when(calendarService.getEvents("2025-10-20", "2025-10-31"))
-            .thenReturn(List.of(event));
+        givenEvents("2025-10-20", "2025-10-31", List.of(event));
 
         Map<String, Object> arguments = Map.of(
             "start_date", "2025-10-20",
             "end_date", "2025-10-31"
         );
 
-        CallToolResult result = toolsProvider.handleGetEvents(exchange, arguments);
+        CallToolResult result = toolsProvider.handleGetEvents(exchange, GetEventsArguments.BINDER.bind(arguments));
 
         assertThat(result).isNotNull();
         assertThat(result.content()).isNotEmpty();
@@ -64,4 +112,263 @@ class CalendarToolsProviderHandlerTest {
         assertThat(events.getFirst().id()).isEqualTo("event-123");
         assertThat(events.getFirst().subject()).isEqualTo("Team Meeting");
     }
+
+    @Test
+    void shouldReturnOnlyRequestedFields() throws Exception {
+        CalendarEvent event = new CalendarEvent(
+            "event-123",
+            "Team Meeting",
+            OffsetDateTime.parse("2025-10-20T09:00:00Z"),
+            OffsetDateTime.parse("2025-10-20T10:00:00Z"),
+            "Room 1", "Alice", "alice@company.com", false
+        );
+        givenEvents("2025-10-20", "2025-10-31", List.of(event));
+
+        Map<String, Object> arguments = Map.of(
+            "start_date", "2025-10-20",
+            "end_date", "2025-10-31",
+            "fields", List.of("id", "subject")
+        );
+
+        CallToolResult result = toolsProvider.handleGetEvents(exchange, GetEventsArguments.BINDER.bind(arguments));
+
+        TextContent textContent = (TextContent) result.content().getFirst();
+        List<Map<String, Object>> events = objectMapper.readValue(textContent.text(), new TypeReference<>() {});
+
+        assertThat(events).containsExactly(Map.of("id", "event-123", "subject", "Team Meeting"));
+    }
+
+    @Test
+    void shouldRejectUnknownFields() {
+        Map<String, Object> arguments = Map.of(
+            "start_date", "2025-10-20",
+            "end_date", "2025-10-31",
+            "fields", List.of("body")
+        );
+
+        assertThatThrownBy(() -> GetEventsArguments.BINDER.bind(arguments))
+            .isInstanceOf(InvalidToolArgumentsException.class)
+            .hasMessageContaining("fields items must be one of");
+    }
+
+    @Test
+    void shouldHandleFindAvailableSlotsCall() throws Exception {
+        TimeSlot slot = new TimeSlot(
+            OffsetDateTime.parse("2025-10-20T09:00:00Z"),
+            OffsetDateTime.parse("2025-10-20T10:00:00Z"),
+            60
+        );
+        WorkingHours workingHours = new WorkingHours(LocalTime.of(9, 0), LocalTime.of(17, 0), false);
+
+        when(calendarService.findAvailableSlots(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-20", "2025-10-24", 60, workingHours, List.of("alice@company.com")))
+            .thenReturn(new AvailableSlots(List.of(slot), List.of("bob@external.com")));
+
+        Map<String, Object> arguments = Map.of(
+            "start_date", "2025-10-20",
+            "end_date", "2025-10-24",
+            "duration_minutes", 60,
+            "working_hours_start", "09:00",
+            "working_hours_end", "17:00",
+            "include_weekends", false,
+            "participants", List.of("alice@company.com")
+        );
+
+        CallToolResult result = toolsProvider.handleFindAvailableSlots(exchange, FindSlotsArguments.BINDER.bind(arguments));
+
+        TextContent textContent = (TextContent) result.content().getFirst();
+        AvailableSlots slots = objectMapper.readValue(textContent.text(), AvailableSlots.class);
+
+        assertThat(slots.slots()).singleElement()
+            .satisfies(found -> assertThat(found.durationMinutes()).isEqualTo(60));
+        assertThat(slots.unresolvedParticipants()).containsExactly("bob@external.com");
+    }
+
+    @Test
+    void shouldRejectWorkingHoursEndingBeforeStart() {
+        Map<String, Object> arguments = Map.of(
+            "start_date", "2025-10-20",
+            "end_date", "2025-10-24",
+            "duration_minutes", 60,
+            "working_hours_start", "17:00",
+            "working_hours_end", "09:00"
+        );
+
+        assertThatThrownBy(() -> FindSlotsArguments.BINDER.bind(arguments))
+            .isInstanceOf(InvalidToolArgumentsException.class)
+            .hasMessage("working_hours_end must be after working_hours_start");
+    }
+
+    @Test
+    void shouldHandleBlockDatesCall() throws Exception {
+        OffsetDateTime monday = OffsetDateTime.parse("2025-10-20T09:00:00Z");
+        OffsetDateTime tuesday = OffsetDateTime.parse("2025-10-21T09:00:00Z");
+        when(calendarService.blockDates(eq("alice@company.com"), any(), eq("Vacation"), isNull(), eq("vacation-2025")))
+            .thenReturn(List.of(
+                new BlockResult(monday, monday.plusHours(8), true, "event-1", null),
+                new BlockResult(tuesday, tuesday.plusHours(8), false, null, "MS Graph event creation failed with status 409")
+            ));
+
+        BlockDatesArguments arguments = BlockDatesArguments.BINDER.bind(Map.of(
+            "mailbox", "alice@company.com",
+            "start_datetime", "2025-10-20T00:00:00",
+            "end_datetime", "2025-10-21T23:59:59",
+            "daily_start_time", "09:00",
+            "daily_end_time", "17:00",
+            "title", "Vacation",
+            "idempotency_key", "vacation-2025"
+        ));
+        CallToolResult result = toolsProvider.handleBlockDates(exchange, arguments);
+
+        assertThat(arguments.blocks()).extracting(TimeSlot::start).containsExactly(monday, tuesday);
+        assertThat(result.isError()).isFalse();
+        List<Map<String, Object>> blocks = objectMapper.readValue(((TextContent) result.content().getFirst()).text(),
+            new TypeReference<>() {});
+        assertThat(blocks).extracting(block -> block.get("blocked")).containsExactly(true, false);
+        assertThat(blocks.getFirst().get("eventId")).isEqualTo("event-1");
+        assertThat(blocks.get(1).get("error")).isEqualTo("MS Graph event creation failed with status 409");
+    }
+
+    @Test
+    void shouldSplitBlockIntoOneSlotPerDaySkippingWeekends() {
+        BlockDatesArguments arguments = BlockDatesArguments.BINDER.bind(Map.of(
+            "start_datetime", "2025-10-20T12:00:00",
+            "end_datetime", "2025-11-02T00:00:00",
+            "include_weekends", false
+        ));
+
+        assertThat(arguments.mailbox()).isEqualTo(CalendarEventStore.DEFAULT_MAILBOX);
+        assertThat(arguments.title()).isEqualTo(BlockDatesArguments.DEFAULT_TITLE);
+        assertThat(arguments.blocks()).hasSize(10);
+        assertThat(arguments.blocks().getFirst())
+            .isEqualTo(new TimeSlot(OffsetDateTime.parse("2025-10-20T12:00:00Z"), OffsetDateTime.parse("2025-10-21T00:00:00Z"), 720));
+        assertThat(arguments.blocks().getLast().start()).isEqualTo(OffsetDateTime.parse("2025-10-31T00:00:00Z"));
+    }
+
+    @Test
+    void shouldRejectBlockEndingBeforeStart() {
+        assertThatThrownBy(() -> BlockDatesArguments.BINDER.bind(Map.of(
+            "start_datetime", "2025-10-21T00:00:00",
+            "end_datetime", "2025-10-20T00:00:00"
+        )))
+            .isInstanceOf(InvalidToolArgumentsException.class)
+            .hasMessage("end_datetime must be after start_datetime");
+    }
+
+    @Test
+    void shouldReturnRescheduleConflictAsStructuredResult() throws Exception {
+        OffsetDateTime start = OffsetDateTime.parse("2025-10-16T14:00:00Z");
+        OffsetDateTime end = OffsetDateTime.parse("2025-10-16T15:00:00Z");
+        CalendarEvent clash = new CalendarEvent("event-2", "1:1", start, end, null, null, null, false);
+        when(calendarService.rescheduleEvent(CalendarEventStore.DEFAULT_MAILBOX, "event-1", start, end, null, false))
+            .thenReturn(RescheduleResult.conflict(List.of(clash)));
+
+        CallToolResult result = toolsProvider.handleRescheduleEvent(exchange, RescheduleEventArguments.BINDER.bind(Map.of(
+            "event_id", "event-1",
+            "new_start_datetime", "2025-10-16T14:00:00",
+            "new_end_datetime", "2025-10-16T16:00:00+01:00"
+        )));
+
+        assertThat(result.isError()).isTrue();
+        Map<String, Object> json = objectMapper.readValue(((TextContent) result.content().getFirst()).text(), new TypeReference<>() {});
+        assertThat(json.get("status")).isEqualTo("CONFLICT");
+        assertThat(json.get("conflicts")).asList().hasSize(1);
+        assertThat(meterRegistry.get("mcp.tool.reschedule.outcomes").tag("status", "CONFLICT").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectRescheduleEndingBeforeStart() {
+        assertThatThrownBy(() -> RescheduleEventArguments.BINDER.bind(Map.of(
+            "event_id", "event-1",
+            "new_start_datetime", "2025-10-16T15:00:00",
+            "new_end_datetime", "2025-10-16T14:00:00"
+        )))
+            .isInstanceOf(InvalidToolArgumentsException.class)
+            .hasMessage("new_end_datetime must be after new_start_datetime");
+    }
+
+    @Test
+    void shouldRejectInvalidArgumentsBeforeHandlerRuns() {
+        McpSyncServer server = mock(McpSyncServer.class);
+        toolsProvider.registerTools(server);
+        ArgumentCaptor<SyncToolSpecification> specs = ArgumentCaptor.forClass(SyncToolSpecification.class);
+        verify(server, atLeastOnce()).addTool(specs.capture());
+        SyncToolSpecification findSlots = specs.getAllValues().stream()
+            .filter(spec -> spec.tool().name().equals("find_available_slots"))
+            .findFirst()
+            .orElseThrow();
+
+        assertThatThrownBy(() -> findSlots.callHandler().apply(exchange, new CallToolRequest("find_available_slots",
+            Map.of("start_date", "2025-10-20", "duration_minutes", "sixty"))))
+            .isInstanceOf(InvalidToolArgumentsException.class)
+            .hasMessage("duration_minutes must be an integer; end_date is required");
+
+        verifyNoInteractions(calendarService, bulkhead);
+        assertThat(meterRegistry.get("mcp.tool.errors")
+            .tags("tool", "find_available_slots", "exception", "InvalidToolArgumentsException").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadCalendarOfRequestedMailbox() throws Exception {
+        givenEvents("alice@company.com", "2025-10-20", "2025-10-31", List.of());
+
+        toolsProvider.handleGetEvents(exchange, GetEventsArguments.BINDER.bind(Map.of(
+            "mailbox", "alice@company.com",
+            "start_date", "2025-10-20",
+            "end_date", "2025-10-31"
+        )));
+
+        verify(calendarService).streamEvents(eq("alice@company.com"), eq("2025-10-20"), eq("2025-10-31"), any());
+    }
+
+    @Test
+    void shouldStreamEveryPageIntoOneResult() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<List<CalendarEvent>> pageConsumer = invocation.getArgument(3);
+            pageConsumer.accept(List.of(new CalendarEvent("event-1", "First", null, null, null, null, null, false)));
+            pageConsumer.accept(List.of(new CalendarEvent("event-2", "Second", null, null, null, null, null, false)));
+            return null;
+        }).when(calendarService).streamEvents(eq(CalendarEventStore.DEFAULT_MAILBOX), eq("2025-10-20"), eq("2025-10-31"), any());
+
+        CallToolResult result = toolsProvider.handleGetEvents(exchange, GetEventsArguments.BINDER.bind(Map.of("start_date", "2025-10-20", "end_date", "2025-10-31")));
+
+        List<CalendarEvent> events = objectMapper.readValue(((TextContent) result.content().getFirst()).text(), new TypeReference<>() {});
+        assertThat(events).extracting(CalendarEvent::id).containsExactly("event-1", "event-2");
+        verify(bufferPool).release(any());
+    }
+
+    @Test
+    void shouldReturnCompactFormatWhenRequested() throws Exception {
+        givenEvents("2025-10-20", "2025-10-31", List.of(new CalendarEvent(
+            "event-123", "Team Meeting",
+            OffsetDateTime.parse("2025-10-20T09:00:00Z"), OffsetDateTime.parse("2025-10-20T10:00:00Z"),
+            null, null, null, false
+        )));
+
+        CallToolResult result = toolsProvider.handleGetEvents(exchange, GetEventsArguments.BINDER.bind(Map.of(
+            "start_date", "2025-10-20",
+            "end_date", "2025-10-31",
+            "fields", List.of("id", "start", "end"),
+            "format", "compact"
+        )));
+
+        Map<String, Object> compact = objectMapper.readValue(((TextContent) result.content().getFirst()).text(), new TypeReference<>() {});
+        assertThat(compact).containsEntry("format", "compact")
+            .containsEntry("id", List.of("event-123"))
+            .containsEntry("start", List.of(540))
+            .containsEntry("end", List.of(60))
+            .doesNotContainKey("subject");
+    }
+
+    private void givenEvents(String startDate, String endDate, List<CalendarEvent> events) {
+        givenEvents(CalendarEventStore.DEFAULT_MAILBOX, startDate, endDate, events);
+    }
+
+    private void givenEvents(String mailbox, String startDate, String endDate, List<CalendarEvent> events) {
+        doAnswer(invocation -> {
+            Consumer<List<CalendarEvent>> pageConsumer = invocation.getArgument(3);
+            pageConsumer.accept(events);
+            return null;
+        }).when(calendarService).streamEvents(eq(mailbox), eq(startDate), eq(endDate), any());
+    }
 }
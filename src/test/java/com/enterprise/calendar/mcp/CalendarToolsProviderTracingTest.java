@@ -0,0 +1,231 @@
+package com.enterprise.calendar.mcp;
+
+import com.enterprise.calendar.config.BulkheadProperties;
+import com.enterprise.calendar.config.CalendarStoreProperties;
+import com.enterprise.calendar.config.GraphProperties;
+import com.enterprise.calendar.service.CalendarEventMapper;
+import com.enterprise.calendar.service.CalendarService;
+import com.enterprise.calendar.service.CalendarSyncService;
+import com.enterprise.calendar.service.GraphAPIService;
+import com.enterprise.calendar.service.GraphBatchClient;
+import com.enterprise.calendar.service.GraphBatchExecutor;
+import com.enterprise.calendar.service.GraphClientRegistry;
+import com.enterprise.calendar.service.GraphThrottleController;
+import com.enterprise.calendar.service.InFlightEventRequests;
+import com.enterprise.calendar.service.MailboxBulkhead;
+import com.enterprise.calendar.service.SlotFinder;
+import com.enterprise.calendar.store.CalendarEventStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.graph.models.Event;
+import com.microsoft.graph.models.EventCollectionResponse;
+import com.microsoft.graph.serviceclient.GraphServiceClient;
+import com.microsoft.graph.users.item.UserItemRequestBuilder;
+import com.microsoft.graph.users.item.calendarview.CalendarViewRequestBuilder;
+import com.microsoft.kiota.RequestInformation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.server.McpSyncServer;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs get_events through the real service stack with an OpenTelemetry SDK that exports to an
+ * in-memory collector, and checks the resulting span tree.
+ */
+@ExtendWith(MockitoExtension.class)
+class CalendarToolsProviderTracingTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+
+    @Mock
+    private GraphClientRegistry clients;
+
+    @Mock
+    private UserItemRequestBuilder userItemRequestBuilder;
+
+    @Mock
+    private CalendarViewRequestBuilder calendarViewRequestBuilder;
+
+    @Mock
+    private GraphBatchExecutor batchExecutor;
+
+    @Mock
+    private CalendarSyncService syncService;
+
+    @Mock
+    private McpSyncServerExchange exchange;
+
+    @Mock
+    private GraphBatchClient batchClient;
+
+    @Mock
+    private GraphServiceClient graphServiceClient;
+
+    private InMemorySpanExporter exporter;
+    private SdkTracerProvider tracerProvider;
+    private OtelTracer tracer;
+    private OtelPropagator propagator;
+    private SyncToolSpecification getEvents;
+
+    @BeforeEach
+    void setUp() {
+        exporter = InMemorySpanExporter.create();
+        tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+            .build();
+        io.opentelemetry.api.trace.Tracer otelTracer = tracerProvider.get("calendar-mcp-service");
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+        tracer = new OtelTracer(otelTracer, currentTraceContext, event -> { },
+            new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+        propagator = new OtelPropagator(
+            ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otelTracer);
+        getEvents = getEventsTool(batchExecutor);
+
+        when(clients.user(CalendarEventStore.DEFAULT_MAILBOX)).thenReturn(userItemRequestBuilder);
+        when(userItemRequestBuilder.calendarView()).thenReturn(calendarViewRequestBuilder);
+    }
+
+    private SyncToolSpecification getEventsTool(GraphBatchExecutor batchExecutor) {
+        GraphProperties graphProperties = new GraphProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CalendarStoreProperties storeProperties = new CalendarStoreProperties();
+        storeProperties.setEnabled(false);
+
+        GraphAPIService graphAPIService = new GraphAPIService(clients, graphProperties, batchExecutor,
+            new GraphThrottleController(graphProperties), meterRegistry, tracer);
+        CalendarService calendarService = new CalendarService(graphAPIService, new CalendarEventMapper(), syncService,
+            storeProperties, new SlotFinder(), graphProperties, new InFlightEventRequests(meterRegistry), tracer);
+        CalendarToolsProvider toolsProvider = new CalendarToolsProvider(calendarService,
+            new ObjectMapper().findAndRegisterModules(), new MailboxBulkhead(new BulkheadProperties()),
+            new JsonBufferPool(), meterRegistry, tracer, propagator);
+
+        McpSyncServer server = mock(McpSyncServer.class);
+        toolsProvider.registerTools(server);
+        ArgumentCaptor<SyncToolSpecification> specs = ArgumentCaptor.forClass(SyncToolSpecification.class);
+        verify(server, atLeastOnce()).addTool(specs.capture());
+        return specs.getAllValues().stream()
+            .filter(spec -> spec.tool().name().equals("get_events"))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.shutdown();
+    }
+
+    @Test
+    void shouldContinueTraceFromRequestMetaDownToGraph() {
+        EventCollectionResponse response = new EventCollectionResponse();
+        response.setValue(List.of(new Event(), new Event()));
+        when(calendarViewRequestBuilder.get(any())).thenReturn(response);
+
+        getEvents.callHandler().apply(exchange, new CallToolRequest("get_events",
+            Map.of("start_date", "2025-10-20", "end_date", "2025-10-31"),
+            Map.of("traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-01")));
+
+        Map<String, SpanData> spans = spansByName();
+        assertThat(spans).containsOnlyKeys("mcp.tool get_events", "calendar.events", "graph calendarView", "calendar.map");
+        assertThat(spans.values()).allSatisfy(span -> assertThat(span.getTraceId()).isEqualTo(TRACE_ID));
+
+        SpanData tool = spans.get("mcp.tool get_events");
+        assertThat(tool.getParentSpanId()).isEqualTo(PARENT_SPAN_ID);
+        assertThat(tool.getKind()).isEqualTo(SpanKind.SERVER);
+        assertThat(spans.get("calendar.events").getParentSpanId()).isEqualTo(tool.getSpanId());
+        assertThat(spans.get("graph calendarView").getParentSpanId()).isEqualTo(spans.get("calendar.events").getSpanId());
+        assertThat(spans.get("calendar.map").getParentSpanId()).isEqualTo(spans.get("calendar.events").getSpanId());
+    }
+
+    @Test
+    void shouldKeepGraphHttpSpanUnderCallerWhenBatchingIsEnabled() {
+        GraphProperties graphProperties = new GraphProperties();
+        GraphBatchExecutor realExecutor = new GraphBatchExecutor(batchClient, graphProperties, new SimpleMeterRegistry(), tracer);
+        EventCollectionResponse response = new EventCollectionResponse();
+        response.setValue(List.of(new Event()));
+        when(clients.clientFor(CalendarEventStore.DEFAULT_MAILBOX)).thenReturn(graphServiceClient);
+        when(calendarViewRequestBuilder.toGetRequestInformation(any())).thenReturn(new RequestInformation());
+        // Stands in for GraphHttpTracingInterceptor, which starts its span from the current context
+        when(batchClient.sendSingle(eq(graphServiceClient), any())).thenAnswer(invocation -> {
+            tracer.nextSpan().name("HTTP GET").start().end();
+            return response;
+        });
+
+        try {
+            getEventsTool(realExecutor).callHandler().apply(exchange, new CallToolRequest("get_events",
+                Map.of("start_date", "2025-10-20", "end_date", "2025-10-31"),
+                Map.of("traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-01")));
+        } finally {
+            realExecutor.shutdown();
+        }
+
+        Map<String, SpanData> spans = spansByName();
+        assertThat(spans.get("HTTP GET").getTraceId()).isEqualTo(TRACE_ID);
+        assertThat(spans.get("HTTP GET").getParentSpanId()).isEqualTo(spans.get("graph calendarView").getSpanId());
+    }
+
+    @Test
+    void shouldStartNewTraceWithoutRequestMeta() {
+        EventCollectionResponse response = new EventCollectionResponse();
+        response.setValue(List.of());
+        when(calendarViewRequestBuilder.get(any())).thenReturn(response);
+
+        getEvents.callHandler().apply(exchange, new CallToolRequest("get_events",
+            Map.of("start_date", "2025-10-20", "end_date", "2025-10-31")));
+
+        SpanData tool = spansByName().get("mcp.tool get_events");
+        assertThat(tool.getParentSpanContext().isValid()).isFalse();
+        assertThat(tool.getTraceId()).isNotEqualTo(TRACE_ID);
+    }
+
+    @Test
+    void shouldMarkSpansAsFailedWhenGraphCallFails() {
+        when(calendarViewRequestBuilder.get(any())).thenThrow(new IllegalStateException("connection reset"));
+
+        assertThatThrownBy(() -> getEvents.callHandler().apply(exchange, new CallToolRequest("get_events",
+            Map.of("start_date", "2025-10-20", "end_date", "2025-10-31"))))
+            .isInstanceOf(RuntimeException.class);
+
+        Map<String, SpanData> spans = spansByName();
+        assertThat(spans.get("graph calendarView").getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(spans.get("mcp.tool get_events").getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+    }
+
+    private Map<String, SpanData> spansByName() {
+        return exporter.getFinishedSpanItems().stream()
+            .collect(Collectors.toMap(SpanData::getName, Function.identity(), (first, second) -> first));
+    }
+}
@@ -0,0 +1,83 @@
+package com.enterprise.calendar.mcp;
+
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.model.calendar.EventField;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactEventEncoderTest {
+
+    private static final OffsetDateTime ORIGIN = OffsetDateTime.parse("2025-10-01T00:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void shouldEncodeColumnsWithDictionaryAndOffsets() throws Exception {
+        List<CalendarEvent> events = List.of(
+            new CalendarEvent("event-1", "Standup", ORIGIN.plusHours(9), ORIGIN.plusHours(9).plusMinutes(15),
+                "Room 1", "Alice", "alice@company.com", false),
+            new CalendarEvent("event-2", "Standup", ORIGIN.plusDays(1).plusHours(9), ORIGIN.plusDays(1).plusHours(9).plusMinutes(15),
+                null, "Alice", "alice@company.com", false)
+        );
+
+        Map<String, Object> compact = encode(events, EnumSet.allOf(EventField.class));
+
+        assertThat(compact).containsEntry("origin", "2025-10-01T00:00Z")
+            .containsEntry("unit", "minutes")
+            .containsEntry("count", 2)
+            .containsEntry("strings", List.of("Standup", "Room 1", "Alice", "alice@company.com"))
+            .containsEntry("id", List.of("event-1", "event-2"))
+            .containsEntry("subject", List.of(0, 0))
+            .containsEntry("start", List.of(540, 1980))
+            .containsEntry("end", List.of(15, 15))
+            .containsEntry("location", Arrays.asList(1, null))
+            .containsEntry("organizerEmail", List.of(3, 3))
+            .containsEntry("isAllDay", List.of(0, 0));
+    }
+
+    @Test
+    void shouldBeSeveralTimesSmallerThanJsonForRecurringMeetings() throws Exception {
+        List<CalendarEvent> events = new ArrayList<>();
+        String[] subjects = {"Standup", "Sprint Planning", "1:1 with Bob", "Architecture Review"};
+        for (int day = 0; day < 22; day++) {
+            for (int slot = 0; slot < 4; slot++) {
+                OffsetDateTime start = ORIGIN.plusDays(day).plusHours(9 + 2L * slot);
+                events.add(new CalendarEvent("event-" + events.size(), subjects[slot], start, start.plusMinutes(30),
+                    "Conference Room " + slot, "Alice Martin", "alice.martin@company.com", false));
+            }
+        }
+
+        String json = objectMapper.writeValueAsString(events);
+        String compact = encodeToString(events, EnumSet.allOf(EventField.class));
+
+        assertThat(compact.length() * 3).isLessThan(json.length());
+    }
+
+    private Map<String, Object> encode(List<CalendarEvent> events, Set<EventField> fields) throws Exception {
+        return objectMapper.readValue(encodeToString(events, fields), new TypeReference<>() {});
+    }
+
+    private String encodeToString(List<CalendarEvent> events, Set<EventField> fields) throws Exception {
+        CompactEventEncoder encoder = new CompactEventEncoder(ORIGIN, fields);
+        encoder.accept(events);
+
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            encoder.writeTo(generator);
+        }
+        return writer.toString();
+    }
+}
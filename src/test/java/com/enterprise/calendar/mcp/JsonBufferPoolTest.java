@@ -0,0 +1,34 @@
+package com.enterprise.calendar.mcp;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.CharArrayWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonBufferPoolTest {
+
+    private final JsonBufferPool pool = new JsonBufferPool();
+
+    @Test
+    void shouldReuseReleasedBufferEmptied() {
+        CharArrayWriter buffer = pool.acquire();
+        buffer.write("[{\"id\":\"event-1\"}]", 0, 18);
+        pool.release(buffer);
+
+        CharArrayWriter reused = pool.acquire();
+
+        assertThat(reused).isSameAs(buffer);
+        assertThat(reused.size()).isZero();
+    }
+
+    @Test
+    void shouldDropBuffersThatGrewTooLarge() {
+        CharArrayWriter buffer = pool.acquire();
+        buffer.write(new char[JsonBufferPool.MAX_RETAINED_CHARS + 1], 0, JsonBufferPool.MAX_RETAINED_CHARS + 1);
+        pool.release(buffer);
+
+        assertThat(pool.pooledBuffers()).isZero();
+        assertThat(pool.acquire()).isNotSameAs(buffer);
+    }
+}
@@ -0,0 +1,119 @@
+package com.enterprise.calendar.mcp.schema;
+
+import com.enterprise.calendar.exception.InvalidToolArgumentsException;
+import com.enterprise.calendar.model.calendar.EventField;
+import com.enterprise.calendar.model.calendar.WorkingHours;
+import com.enterprise.calendar.store.CalendarEventStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArgumentBinderTest {
+
+    @Test
+    void shouldBindGetEventsArguments() {
+        GetEventsArguments arguments = GetEventsArguments.BINDER.bind(Map.of(
+            "mailbox", " alice@company.com ",
+            "start_date", "2025-10-20",
+            "end_date", "2025-10-31",
+            "fields", List.of("id", "start"),
+            "format", "compact"
+        ));
+
+        assertThat(arguments).isEqualTo(new GetEventsArguments("alice@company.com", "2025-10-20", "2025-10-31",
+            EnumSet.of(EventField.ID, EventField.START), true));
+    }
+
+    @Test
+    void shouldApplyDefaultsForOmittedOptionalArguments() {
+        GetEventsArguments arguments = GetEventsArguments.BINDER.bind(Map.of(
+            "start_date", "2025-10-20",
+            "end_date", "2025-10-31"
+        ));
+
+        assertThat(arguments.mailbox()).isEqualTo(CalendarEventStore.DEFAULT_MAILBOX);
+        assertThat(arguments.fields()).isNull();
+        assertThat(arguments.compact()).isFalse();
+    }
+
+    @Test
+    void shouldBindFindSlotsArguments() {
+        FindSlotsArguments arguments = FindSlotsArguments.BINDER.bind(Map.of(
+            "start_date", "2025-10-20",
+            "end_date", "2025-10-24",
+            "duration_minutes", 30L,
+            "working_hours_start", "09:00",
+            "include_weekends", false,
+            "participants", List.of("bob@company.com")
+        ));
+
+        assertThat(arguments.durationMinutes()).isEqualTo(30);
+        assertThat(arguments.workingHours()).isEqualTo(new WorkingHours(LocalTime.of(9, 0), LocalTime.MIN, false));
+        assertThat(arguments.participants()).containsExactly("bob@company.com");
+    }
+
+    @Test
+    void shouldReportEveryTypeProblemAtOnce() {
+        assertThatThrownBy(() -> FindSlotsArguments.BINDER.bind(Map.of(
+            "start_date", 20251020,
+            "end_date", "2025-10-24",
+            "duration_minutes", 30.5,
+            "include_weekends", "no"
+        )))
+            .isInstanceOf(InvalidToolArgumentsException.class)
+            .hasMessageContaining("start_date must be a string")
+            .hasMessageContaining("duration_minutes must be an integer")
+            .hasMessageContaining("include_weekends must be a boolean");
+    }
+
+    @Test
+    void shouldRejectMissingRequiredArguments() {
+        assertThatThrownBy(() -> GetEventsArguments.BINDER.bind(null))
+            .isInstanceOf(InvalidToolArgumentsException.class)
+            .hasMessageContaining("start_date is required")
+            .hasMessageContaining("end_date is required");
+    }
+
+    @Test
+    void shouldRejectValuesOutsideEnum() {
+        assertThatThrownBy(() -> GetEventsArguments.BINDER.bind(Map.of(
+            "start_date", "2025-10-20",
+            "end_date", "2025-10-31",
+            "format", "xml"
+        )))
+            .isInstanceOf(InvalidToolArgumentsException.class)
+            .hasMessage("format must be one of [json, compact]");
+    }
+
+    @Test
+    void shouldRejectChecksTheSchemaCannotExpress() {
+        assertThatThrownBy(() -> GetEventsArguments.BINDER.bind(Map.of("start_date", "2025-10-31", "end_date", "2025-10-01")))
+            .isInstanceOf(InvalidToolArgumentsException.class)
+            .hasMessage("Start date must be before or equal to end date");
+        assertThatThrownBy(() -> FindSlotsArguments.BINDER.bind(Map.of(
+            "start_date", "2025-10-20", "end_date", "2025-10-24", "duration_minutes", 0)))
+            .isInstanceOf(InvalidToolArgumentsException.class)
+            .hasMessage("duration_minutes must be greater than zero");
+        assertThatThrownBy(() -> FindSlotsArguments.BINDER.bind(Map.of(
+            "start_date", "2025-10-20", "end_date", "2025-10-24", "duration_minutes", 30, "working_hours_start", "9am")))
+            .isInstanceOf(InvalidToolArgumentsException.class)
+            .hasMessage("working_hours_start must be a time of day (HH:mm)");
+    }
+
+    @Test
+    void shouldIgnoreArgumentsOutsideSchema() {
+        GetEventsArguments arguments = GetEventsArguments.BINDER.bind(Map.of(
+            "start_date", "2025-10-20",
+            "end_date", "2025-10-31",
+            "timezone", "Europe/Berlin"
+        ));
+
+        assertThat(arguments.startDate()).isEqualTo("2025-10-20");
+    }
+}
@@ -0,0 +1,51 @@
+package com.enterprise.calendar.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AvailabilityBitmapTest {
+
+    @Test
+    void shouldTreatOnlyZeroAsFree() {
+        AvailabilityBitmap bitmap = AvailabilityBitmap.fromAvailabilityView("0012340", 7);
+
+        assertThat(bitmap.freeRuns(0, 15, 1)).containsExactly(0, 30, 90, 105);
+    }
+
+    @Test
+    void shouldIntersectParticipantsWordByWord() {
+        String first = "0".repeat(100) + "2".repeat(50);
+        String second = "2".repeat(70) + "0".repeat(80);
+
+        AvailabilityBitmap bitmap = AvailabilityBitmap.fromAvailabilityView(first, 150);
+        bitmap.and(AvailabilityBitmap.fromAvailabilityView(second, 150));
+
+        assertThat(bitmap.freeRuns(1000, 15, 1)).containsExactly(1000 + 70 * 15, 1000 + 100 * 15);
+    }
+
+    @Test
+    void shouldRoundFreeSlotsInwardToGranularity() {
+        long[] free = {10, 70, 100, 200};
+
+        AvailabilityBitmap bitmap = AvailabilityBitmap.fromFreeSlots(free, 0, 15, 16);
+
+        assertThat(bitmap.freeRuns(0, 15, 1)).containsExactly(15, 60, 105, 195);
+    }
+
+    @Test
+    void shouldDropRunsShorterThanMinimum() {
+        AvailabilityBitmap bitmap = AvailabilityBitmap.fromAvailabilityView("00200002", 8);
+
+        assertThat(bitmap.freeRuns(0, 15, 3)).containsExactly(45, 105);
+    }
+
+    @Test
+    void shouldRejectBitmapsOfDifferentSizes() {
+        AvailabilityBitmap bitmap = AvailabilityBitmap.fromAvailabilityView("00", 2);
+
+        assertThatThrownBy(() -> bitmap.and(AvailabilityBitmap.fromAvailabilityView("000", 3)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -9,6 +9,8 @@ import com.microsoft.graph.models.Recipient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.OffsetDateTime;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class CalendarEventMapperTest {
@@ -56,6 +58,21 @@ class CalendarEventMapperTest {
         assertThat(result.end().getHour()).isEqualTo(11);
     }
 
+    @Test
+    void shouldConvertDatesFromEventTimeZoneToUtc() {
+        Event event = new Event();
+        event.setId("event-123");
+
+        DateTimeTimeZone start = new DateTimeTimeZone();
+        start.setDateTime("2025-07-01T09:30:00.0000000");
+        start.setTimeZone("Europe/Paris");
+        event.setStart(start);
+
+        CalendarEvent result = mapper.toCalendarEvent(event);
+
+        assertThat(result.start()).isEqualTo(OffsetDateTime.parse("2025-07-01T07:30:00Z"));
+    }
+
     @Test
     void shouldMapLocation() {
         Event event = new Event();
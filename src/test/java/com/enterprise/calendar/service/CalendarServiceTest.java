@@ -1,20 +1,44 @@
 package com.enterprise.calendar.service;
 
+import com.enterprise.calendar.config.CalendarStoreProperties;
+import com.enterprise.calendar.config.GraphProperties;
+import com.enterprise.calendar.exception.EventChangedException;
+import com.enterprise.calendar.model.calendar.AvailableSlots;
+import com.enterprise.calendar.model.calendar.BlockResult;
 import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.model.calendar.RescheduleResult;
+import com.enterprise.calendar.model.calendar.TimeSlot;
+import com.enterprise.calendar.model.calendar.WorkingHours;
+import com.enterprise.calendar.store.CalendarEventStore;
 import com.microsoft.graph.models.DateTimeTimeZone;
 import com.microsoft.graph.models.EmailAddress;
 import com.microsoft.graph.models.Event;
+import com.microsoft.graph.models.FreeBusyStatus;
 import com.microsoft.graph.models.Location;
 import com.microsoft.graph.models.Recipient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,13 +47,22 @@ class CalendarServiceTest {
     @Mock
     private GraphAPIService graphAPIService;
 
+    @Mock
+    private CalendarSyncService syncService;
+
     private CalendarEventMapper mapper;
+    private CalendarStoreProperties storeProperties;
+    private SimpleTracer tracer;
     private CalendarService calendarService;
 
     @BeforeEach
     void setUp() {
         mapper = new CalendarEventMapper();
-        calendarService = new CalendarService(graphAPIService, mapper);
+        storeProperties = new CalendarStoreProperties();
+        storeProperties.setEnabled(false);
+        tracer = new SimpleTracer();
+        calendarService = new CalendarService(graphAPIService, mapper, syncService, storeProperties, new SlotFinder(), new GraphProperties(),
+            new InFlightEventRequests(new SimpleMeterRegistry()), tracer);
     }
 
     @Test
@@ -59,10 +92,9 @@ class CalendarServiceTest {
         organizer.setEmailAddress(email);
         graphEvent.setOrganizer(organizer);
 
-        when(graphAPIService.getEvents("2025-10-20", "2025-10-20"))
-            .thenReturn(List.of(graphEvent));
+        givenGraphPages("2025-10-20", "2025-10-20", List.of(List.of(graphEvent)));
 
-        List<CalendarEvent> events = calendarService.getEvents("2025-10-20", "2025-10-20");
+        List<CalendarEvent> events = calendarService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-20", "2025-10-20");
 
         assertThat(events).hasSize(1);
         CalendarEvent event = events.getFirst();
@@ -85,10 +117,9 @@ class CalendarServiceTest {
         event2.setId("event-2");
         event2.setSubject("Meeting 2");
 
-        when(graphAPIService.getEvents("2025-10-20", "2025-10-25"))
-            .thenReturn(List.of(event1, event2));
+        givenGraphPages("2025-10-20", "2025-10-25", List.of(List.of(event1), List.of(event2)));
 
-        List<CalendarEvent> events = calendarService.getEvents("2025-10-20", "2025-10-25");
+        List<CalendarEvent> events = calendarService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-20", "2025-10-25");
 
         assertThat(events).hasSize(2);
         assertThat(events.get(0).id()).isEqualTo("event-1");
@@ -97,11 +128,244 @@ class CalendarServiceTest {
 
     @Test
     void shouldHandleEmptyEventsList() {
-        when(graphAPIService.getEvents("2025-10-20", "2025-10-20"))
-            .thenReturn(List.of());
+        givenGraphPages("2025-10-20", "2025-10-20", List.of(List.of()));
 
-        List<CalendarEvent> events = calendarService.getEvents("2025-10-20", "2025-10-20");
+        List<CalendarEvent> events = calendarService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-20", "2025-10-20");
 
         assertThat(events).isEmpty();
     }
+
+    @Test
+    void shouldStreamMappedEventsPageByPage() {
+        Event event1 = new Event();
+        event1.setId("event-1");
+
+        Event event2 = new Event();
+        event2.setId("event-2");
+
+        Event event3 = new Event();
+        event3.setId("event-3");
+
+        givenGraphPages("2025-10-01", "2025-10-31", List.of(List.of(event1, event2), List.of(event3)));
+
+        List<List<CalendarEvent>> pages = new ArrayList<>();
+        calendarService.streamEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-01", "2025-10-31", pages::add);
+
+        assertThat(pages).hasSize(2);
+        assertThat(pages.get(0)).extracting(CalendarEvent::id).containsExactly("event-1", "event-2");
+        assertThat(pages.get(1)).extracting(CalendarEvent::id).containsExactly("event-3");
+    }
+
+    @Test
+    void shouldTraceEachMappedPage() {
+        givenGraphPages("2025-10-01", "2025-10-31", List.of(List.of(new Event(), new Event()), List.of(new Event())));
+
+        calendarService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-01", "2025-10-31");
+
+        assertThat(tracer.getSpans()).extracting(SimpleSpan::getName)
+            .containsExactly("calendar.events", "calendar.map", "calendar.map");
+        assertThat(tracer.getSpans()).extracting(span -> span.getTags().get("calendar.events.count"))
+            .containsExactly(null, "2", "1");
+    }
+
+    @Test
+    void shouldAnswerFromLocalStoreWhenEnabled() {
+        storeProperties.setEnabled(true);
+        CalendarEvent cached = new CalendarEvent("event-1", "Cached", null, null, null, null, null, false);
+
+        when(syncService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-01", "2025-10-31"))
+            .thenReturn(List.of(cached));
+
+        List<CalendarEvent> events = calendarService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-01", "2025-10-31");
+
+        assertThat(events).containsExactly(cached);
+        verifyNoInteractions(graphAPIService);
+    }
+
+    @Test
+    void shouldFindFreeSlotsAroundEvents() {
+        storeProperties.setEnabled(true);
+        CalendarEvent meeting = new CalendarEvent(
+            "event-1", "Meeting",
+            OffsetDateTime.parse("2025-10-20T10:00:00Z"),
+            OffsetDateTime.parse("2025-10-20T11:30:00Z"),
+            null, null, null, false
+        );
+
+        when(syncService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-20", "2025-10-20"))
+            .thenReturn(List.of(meeting));
+
+        AvailableSlots slots = calendarService.findAvailableSlots(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-20", "2025-10-20", 60,
+            new WorkingHours(LocalTime.of(9, 0), LocalTime.of(17, 0), true), List.of());
+
+        assertThat(slots.unresolvedParticipants()).isEmpty();
+        assertThat(slots.slots()).containsExactly(
+            new TimeSlot(OffsetDateTime.parse("2025-10-20T09:00:00Z"), OffsetDateTime.parse("2025-10-20T10:00:00Z"), 60),
+            new TimeSlot(OffsetDateTime.parse("2025-10-20T11:30:00Z"), OffsetDateTime.parse("2025-10-20T17:00:00Z"), 330)
+        );
+    }
+
+    @Test
+    void shouldIntersectFreeSlotsWithParticipants() {
+        storeProperties.setEnabled(true);
+        OffsetDateTime rangeStart = OffsetDateTime.parse("2025-10-20T00:00:00Z");
+        OffsetDateTime rangeEnd = OffsetDateTime.parse("2025-10-21T00:00:00Z");
+
+        when(syncService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-20", "2025-10-20"))
+            .thenReturn(List.of());
+        // 96 slots of 15 minutes: alice is free 09:00-12:00, bob is free 10:00-17:00
+        when(graphAPIService.getAvailabilityViews(CalendarEventStore.DEFAULT_MAILBOX, List.of("alice@company.com", "bob@company.com"), rangeStart, rangeEnd, 15))
+            .thenReturn(Map.of(
+                "alice@company.com", "2".repeat(36) + "0".repeat(12) + "2".repeat(48),
+                "bob@company.com", "2".repeat(40) + "0".repeat(28) + "2".repeat(28)
+            ));
+
+        AvailableSlots slots = calendarService.findAvailableSlots(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-20", "2025-10-20", 60,
+            WorkingHours.anyTime(), List.of("alice@company.com", "bob@company.com"));
+
+        assertThat(slots.slots()).containsExactly(
+            new TimeSlot(OffsetDateTime.parse("2025-10-20T10:00:00Z"), OffsetDateTime.parse("2025-10-20T12:00:00Z"), 120)
+        );
+    }
+
+    @Test
+    void shouldReportParticipantsWithoutFreeBusy() {
+        storeProperties.setEnabled(true);
+        OffsetDateTime rangeStart = OffsetDateTime.parse("2025-10-20T00:00:00Z");
+        OffsetDateTime rangeEnd = OffsetDateTime.parse("2025-10-21T00:00:00Z");
+
+        when(syncService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-20", "2025-10-20"))
+            .thenReturn(List.of());
+        when(graphAPIService.getAvailabilityViews(CalendarEventStore.DEFAULT_MAILBOX, List.of("alice@company.com", "guest@external.com"), rangeStart, rangeEnd, 15))
+            .thenReturn(Map.of("alice@company.com", "2".repeat(36) + "0".repeat(12) + "2".repeat(48)));
+
+        AvailableSlots slots = calendarService.findAvailableSlots(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-20", "2025-10-20", 60,
+            WorkingHours.anyTime(), List.of("alice@company.com", "guest@external.com"));
+
+        assertThat(slots.slots()).containsExactly(
+            new TimeSlot(OffsetDateTime.parse("2025-10-20T09:00:00Z"), OffsetDateTime.parse("2025-10-20T12:00:00Z"), 180)
+        );
+        assertThat(slots.unresolvedParticipants()).containsExactly("guest@external.com");
+        assertThat(tracer.getSpans())
+            .filteredOn(span -> span.getName().equals("calendar.slots"))
+            .singleElement()
+            .satisfies(span -> assertThat(span.getTags()).containsEntry("calendar.participants.unresolved", "1"));
+    }
+
+    private void givenGraphPages(String startDate, String endDate, List<List<Event>> pages) {
+        doAnswer(invocation -> {
+            Consumer<List<Event>> pageConsumer = invocation.getArgument(3);
+            pages.forEach(pageConsumer);
+            return null;
+        }).when(graphAPIService).streamEvents(eq(CalendarEventStore.DEFAULT_MAILBOX), eq(startDate), eq(endDate), any());
+    }
+
+    @Test
+    void shouldBlockDatesWithStableTransactionIds() {
+        TimeSlot monday = new TimeSlot(OffsetDateTime.parse("2025-10-20T00:00:00Z"), OffsetDateTime.parse("2025-10-21T00:00:00Z"), 1440);
+        TimeSlot tuesday = new TimeSlot(OffsetDateTime.parse("2025-10-21T00:00:00Z"), OffsetDateTime.parse("2025-10-22T00:00:00Z"), 1440);
+        Event created = new Event();
+        created.setId("event-1");
+        when(graphAPIService.createEvents(eq("alice@company.com"), any()))
+            .thenReturn(List.of(new EventCreation(201, created, null), EventCreation.failed(409, "conflict")));
+
+        List<BlockResult> results = calendarService.blockDates("alice@company.com", List.of(monday, tuesday),
+            "Vacation", "Back on the 22nd", "vacation-2025");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Event>> events = ArgumentCaptor.forClass(List.class);
+        verify(graphAPIService).createEvents(eq("alice@company.com"), events.capture());
+        assertThat(events.getValue()).allSatisfy(event -> {
+            assertThat(event.getSubject()).isEqualTo("Vacation");
+            assertThat(event.getShowAs()).isEqualTo(FreeBusyStatus.Oof);
+            assertThat(event.getBody().getContent()).isEqualTo("Back on the 22nd");
+        });
+        assertThat(events.getValue().getFirst().getStart().getDateTime()).isEqualTo("2025-10-20T00:00:00");
+        assertThat(events.getValue()).extracting(Event::getTransactionId).containsExactly(
+            CalendarService.transactionId("Alice@Company.com", "vacation-2025", monday, "Vacation"),
+            CalendarService.transactionId("alice@company.com", "vacation-2025", tuesday, "Vacation"));
+        assertThat(events.getValue().get(0).getTransactionId()).isNotEqualTo(events.getValue().get(1).getTransactionId());
+
+        assertThat(results).containsExactly(
+            new BlockResult(monday.start(), monday.end(), true, "event-1", null),
+            new BlockResult(tuesday.start(), tuesday.end(), false, null, "conflict"));
+        assertThat(tracer.onlySpan().getName()).isEqualTo("calendar.block");
+    }
+
+    @Test
+    void shouldAddBlockedEventsToStoreWhenEnabled() {
+        storeProperties.setEnabled(true);
+        TimeSlot monday = new TimeSlot(OffsetDateTime.parse("2025-10-20T00:00:00Z"), OffsetDateTime.parse("2025-10-21T00:00:00Z"), 1440);
+        TimeSlot tuesday = new TimeSlot(OffsetDateTime.parse("2025-10-21T00:00:00Z"), OffsetDateTime.parse("2025-10-22T00:00:00Z"), 1440);
+        Event created = mapper.toBlockingEvent(monday, "Vacation", null, "transaction-1");
+        created.setId("event-1");
+        when(graphAPIService.createEvents(eq("alice@company.com"), any()))
+            .thenReturn(List.of(new EventCreation(201, created, null), EventCreation.failed(409, "conflict")));
+
+        calendarService.blockDates("alice@company.com", List.of(monday, tuesday), "Vacation", null, "vacation-2025");
+
+        ArgumentCaptor<CalendarEvent> stored = ArgumentCaptor.forClass(CalendarEvent.class);
+        verify(syncService).applyLocalChange(eq("alice@company.com"), stored.capture());
+        assertThat(stored.getValue().id()).isEqualTo("event-1");
+        assertThat(stored.getValue().start()).isEqualTo(monday.start());
+    }
+
+    @Test
+    void shouldRejectRescheduleOntoHeldEventWithoutCallingGraph() {
+        storeProperties.setEnabled(true);
+        OffsetDateTime start = OffsetDateTime.parse("2025-10-16T14:00:00Z");
+        OffsetDateTime end = OffsetDateTime.parse("2025-10-16T15:00:00Z");
+        CalendarEvent clash = new CalendarEvent("event-2", "1:1", start.plusMinutes(30), end, null, null, null, false);
+        CalendarEvent itself = new CalendarEvent("event-1", "Review", start, end, null, null, null, false);
+        CalendarEvent touching = new CalendarEvent("event-3", "Standup", end, end.plusMinutes(15), null, null, null, false);
+        when(syncService.getHeldEvents(CalendarEventStore.DEFAULT_MAILBOX, start, end)).thenReturn(List.of(itself, clash, touching));
+
+        RescheduleResult result = calendarService.rescheduleEvent(CalendarEventStore.DEFAULT_MAILBOX, "event-1", start, end, null, false);
+
+        assertThat(result.status()).isEqualTo(RescheduleResult.Status.CONFLICT);
+        assertThat(result.conflicts()).containsExactly(clash);
+        verifyNoInteractions(graphAPIService);
+        assertThat(tracer.onlySpan().getTags()).containsEntry("calendar.reschedule.status", "CONFLICT");
+    }
+
+    @Test
+    void shouldRescheduleWithCurrentETagAndUpdateStore() {
+        storeProperties.setEnabled(true);
+        OffsetDateTime start = OffsetDateTime.parse("2025-10-16T14:00:00Z");
+        OffsetDateTime end = OffsetDateTime.parse("2025-10-16T15:00:00Z");
+        when(syncService.getHeldEvents(CalendarEventStore.DEFAULT_MAILBOX, start, end)).thenReturn(List.of());
+        when(graphAPIService.getEvent(CalendarEventStore.DEFAULT_MAILBOX, "event-1")).thenReturn(graphEvent("W/\"v1\""));
+        when(graphAPIService.rescheduleEvent(CalendarEventStore.DEFAULT_MAILBOX, "event-1", start, end, "W/\"v1\""))
+            .thenReturn(graphEvent("W/\"v2\""));
+
+        RescheduleResult result = calendarService.rescheduleEvent(CalendarEventStore.DEFAULT_MAILBOX, "event-1", start, end, null, false);
+
+        assertThat(result.status()).isEqualTo(RescheduleResult.Status.RESCHEDULED);
+        assertThat(result.etag()).isEqualTo("W/\"v2\"");
+        assertThat(result.event().id()).isEqualTo("event-1");
+        verify(syncService).applyLocalChange(CalendarEventStore.DEFAULT_MAILBOX, result.event());
+    }
+
+    @Test
+    void shouldReturnCurrentVersionWhenETagIsStale() {
+        OffsetDateTime start = OffsetDateTime.parse("2025-10-16T14:00:00Z");
+        OffsetDateTime end = OffsetDateTime.parse("2025-10-16T15:00:00Z");
+        when(graphAPIService.rescheduleEvent(CalendarEventStore.DEFAULT_MAILBOX, "event-1", start, end, "W/\"v1\""))
+            .thenThrow(new EventChangedException("changed", null));
+        when(graphAPIService.getEvent(CalendarEventStore.DEFAULT_MAILBOX, "event-1")).thenReturn(graphEvent("W/\"v3\""));
+
+        RescheduleResult result = calendarService.rescheduleEvent(CalendarEventStore.DEFAULT_MAILBOX, "event-1", start, end,
+            "W/\"v1\"", false);
+
+        assertThat(result.status()).isEqualTo(RescheduleResult.Status.ETAG_MISMATCH);
+        assertThat(result.etag()).isEqualTo("W/\"v3\"");
+        verifyNoInteractions(syncService);
+    }
+
+    private Event graphEvent(String etag) {
+        Event event = new Event();
+        event.setId("event-1");
+        event.getAdditionalData().put("@odata.etag", etag);
+        return event;
+    }
 }
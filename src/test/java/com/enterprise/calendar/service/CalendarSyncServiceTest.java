@@ -0,0 +1,104 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.config.CalendarStoreProperties;
+import com.enterprise.calendar.exception.DeltaTokenExpiredException;
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import com.enterprise.calendar.store.CalendarEventStore;
+import com.microsoft.graph.models.DateTimeTimeZone;
+import com.microsoft.graph.models.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarSyncServiceTest {
+
+    @Mock
+    private GraphAPIService graphAPIService;
+
+    private CalendarStoreProperties properties;
+    private CalendarSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CalendarStoreProperties();
+        syncService = new CalendarSyncService(graphAPIService, new CalendarEventMapper(), new CalendarEventStore(), properties);
+    }
+
+    @Test
+    void shouldPerformInitialSyncAndAnswerFromStore() {
+        when(graphAPIService.getEventsDelta(eq(CalendarEventStore.DEFAULT_MAILBOX), any(), any(), isNull()))
+            .thenReturn(new EventDelta(List.of(event("event-1", "2025-10-20T10:00:00")), List.of(), "delta-1"));
+
+        List<CalendarEvent> first = syncService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-20", "2025-10-20");
+        List<CalendarEvent> second = syncService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-01", "2025-10-31");
+
+        assertThat(first).extracting(CalendarEvent::id).containsExactly("event-1");
+        assertThat(second).extracting(CalendarEvent::id).containsExactly("event-1");
+        verify(graphAPIService, times(1)).getEventsDelta(eq(CalendarEventStore.DEFAULT_MAILBOX), any(), any(), any());
+    }
+
+    @Test
+    void shouldApplyIncrementalChangesAndRemovals() {
+        properties.setRefreshInterval(Duration.ZERO);
+
+        when(graphAPIService.getEventsDelta(eq(CalendarEventStore.DEFAULT_MAILBOX), any(), any(), isNull()))
+            .thenReturn(new EventDelta(
+                List.of(event("event-1", "2025-10-20T10:00:00"), event("event-2", "2025-10-21T10:00:00")),
+                List.of(),
+                "delta-1"));
+        when(graphAPIService.getEventsDelta(eq(CalendarEventStore.DEFAULT_MAILBOX), any(), any(), eq("delta-1")))
+            .thenReturn(new EventDelta(List.of(event("event-3", "2025-10-22T10:00:00")), List.of("event-1"), "delta-2"));
+
+        syncService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-01", "2025-10-31");
+        List<CalendarEvent> events = syncService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-01", "2025-10-31");
+
+        assertThat(events).extracting(CalendarEvent::id).containsExactly("event-2", "event-3");
+    }
+
+    @Test
+    void shouldResyncWindowWhenDeltaTokenExpires() {
+        properties.setRefreshInterval(Duration.ZERO);
+
+        when(graphAPIService.getEventsDelta(eq(CalendarEventStore.DEFAULT_MAILBOX), any(), any(), isNull()))
+            .thenReturn(new EventDelta(List.of(event("event-1", "2025-10-20T10:00:00")), List.of(), "delta-1"))
+            .thenReturn(new EventDelta(List.of(event("event-2", "2025-10-21T10:00:00")), List.of(), "delta-2"));
+        when(graphAPIService.getEventsDelta(eq(CalendarEventStore.DEFAULT_MAILBOX), any(), any(), eq("delta-1")))
+            .thenThrow(new DeltaTokenExpiredException("expired", null));
+
+        syncService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-01", "2025-10-31");
+        List<CalendarEvent> events = syncService.getEvents(CalendarEventStore.DEFAULT_MAILBOX, "2025-10-01", "2025-10-31");
+
+        assertThat(events).extracting(CalendarEvent::id).containsExactly("event-2");
+    }
+
+    private Event event(String id, String start) {
+        Event event = new Event();
+        event.setId(id);
+
+        DateTimeTimeZone startTime = new DateTimeTimeZone();
+        startTime.setDateTime(start);
+        startTime.setTimeZone("UTC");
+        event.setStart(startTime);
+
+        DateTimeTimeZone endTime = new DateTimeTimeZone();
+        endTime.setDateTime(start.replace("T10:", "T11:"));
+        endTime.setTimeZone("UTC");
+        event.setEnd(endTime);
+
+        return event;
+    }
+}
@@ -1,25 +1,59 @@
 package com.enterprise.calendar.service;
 
+import com.enterprise.calendar.config.GraphProperties;
+import com.enterprise.calendar.exception.EventChangedException;
+import com.enterprise.calendar.exception.GraphAPIException;
+import com.enterprise.calendar.service.GraphBatchClient.BatchStep;
+import com.enterprise.calendar.service.GraphBatchClient.BatchStepResult;
 import com.microsoft.graph.models.Event;
 import com.microsoft.graph.models.EventCollectionResponse;
+import com.microsoft.graph.models.ScheduleInformation;
+import com.microsoft.graph.models.odataerrors.ODataError;
 import com.microsoft.graph.serviceclient.GraphServiceClient;
+import com.microsoft.graph.users.item.calendar.CalendarRequestBuilder;
+import com.microsoft.graph.users.item.calendar.getschedule.GetSchedulePostRequestBody;
+import com.microsoft.graph.users.item.calendar.getschedule.GetSchedulePostResponse;
+import com.microsoft.graph.users.item.calendar.getschedule.GetScheduleRequestBuilder;
 import com.microsoft.graph.users.item.calendarview.CalendarViewRequestBuilder;
 import com.microsoft.graph.users.item.UserItemRequestBuilder;
+import com.microsoft.graph.users.item.events.EventsRequestBuilder;
+import com.microsoft.graph.users.item.events.item.EventItemRequestBuilder;
+import com.microsoft.kiota.ApiExceptionBuilder;
+import com.microsoft.kiota.RequestInformation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class GraphAPIServiceTest {
 
+    private static final String MAILBOX = "alice@company.com";
+
+    @Mock
+    private GraphClientRegistry clients;
+
     @Mock
     private GraphServiceClient graphServiceClient;
 
@@ -29,11 +63,35 @@ class GraphAPIServiceTest {
     @Mock
     private CalendarViewRequestBuilder calendarViewRequestBuilder;
 
+    @Mock
+    private CalendarViewRequestBuilder nextPageRequestBuilder;
+
+    @Mock
+    private GraphBatchExecutor batchExecutor;
+
+    @Mock
+    private CalendarRequestBuilder calendarRequestBuilder;
+
+    @Mock
+    private GetScheduleRequestBuilder getScheduleRequestBuilder;
+
+    @Mock
+    private EventsRequestBuilder eventsRequestBuilder;
+
+    @Mock
+    private EventItemRequestBuilder eventItemRequestBuilder;
+
+    private GraphProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private SimpleTracer tracer;
     private GraphAPIService graphAPIService;
 
     @BeforeEach
     void setUp() {
-        graphAPIService = new GraphAPIService(graphServiceClient);
+        properties = new GraphProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        tracer = new SimpleTracer();
+        graphAPIService = new GraphAPIService(clients, properties, batchExecutor, new GraphThrottleController(properties), meterRegistry, tracer);
     }
 
     @Test
@@ -49,14 +107,287 @@ class GraphAPIServiceTest {
         EventCollectionResponse response = new EventCollectionResponse();
         response.setValue(List.of(event1, event2));
 
-        when(graphServiceClient.me()).thenReturn(userItemRequestBuilder);
+        when(clients.user(MAILBOX)).thenReturn(userItemRequestBuilder);
         when(userItemRequestBuilder.calendarView()).thenReturn(calendarViewRequestBuilder);
         when(calendarViewRequestBuilder.get(any())).thenReturn(response);
 
-        List<Event> events = graphAPIService.getEvents("2025-10-15", "2025-10-31");
+        List<Event> events = graphAPIService.getEvents(MAILBOX, "2025-10-15", "2025-10-31");
 
         assertThat(events).hasSize(2);
         assertThat(events.get(0).getSubject()).isEqualTo("Meeting 1");
         assertThat(events.get(1).getSubject()).isEqualTo("Meeting 2");
     }
+
+    @Test
+    void shouldFollowNextLinkAcrossPages() {
+        Event event1 = new Event();
+        event1.setId("event-1");
+
+        Event event2 = new Event();
+        event2.setId("event-2");
+
+        EventCollectionResponse firstPage = new EventCollectionResponse();
+        firstPage.setValue(List.of(event1));
+        firstPage.setOdataNextLink("https://graph.microsoft.com/v1.0/me/calendarView?$skip=1");
+
+        EventCollectionResponse secondPage = new EventCollectionResponse();
+        secondPage.setValue(List.of(event2));
+
+        when(clients.user(MAILBOX)).thenReturn(userItemRequestBuilder);
+        when(userItemRequestBuilder.calendarView()).thenReturn(calendarViewRequestBuilder);
+        when(calendarViewRequestBuilder.get(any())).thenReturn(firstPage);
+        when(calendarViewRequestBuilder.withUrl(firstPage.getOdataNextLink())).thenReturn(nextPageRequestBuilder);
+        when(nextPageRequestBuilder.get()).thenReturn(secondPage);
+
+        List<List<Event>> pages = new ArrayList<>();
+        graphAPIService.streamEvents(MAILBOX, "2025-10-01", "2025-10-31", pages::add);
+
+        assertThat(pages).hasSize(2);
+        assertThat(pages.get(0)).extracting(Event::getId).containsExactly("event-1");
+        assertThat(pages.get(1)).extracting(Event::getId).containsExactly("event-2");
+        assertThat(meterRegistry.get("graph.request.duration")
+            .tags("operation", "calendarView.page", "status", "200")
+            .timer().count()).isEqualTo(1);
+        assertThat(tracer.getSpans()).extracting(SimpleSpan::getName)
+            .containsExactlyInAnyOrder("graph calendarView", "graph calendarView.page");
+    }
+
+    @Test
+    void shouldPropagateErrorFromLaterPage() {
+        EventCollectionResponse firstPage = new EventCollectionResponse();
+        firstPage.setValue(List.of(new Event()));
+        firstPage.setOdataNextLink("https://graph.microsoft.com/v1.0/me/calendarView?$skip=1");
+
+        when(clients.user(MAILBOX)).thenReturn(userItemRequestBuilder);
+        when(userItemRequestBuilder.calendarView()).thenReturn(calendarViewRequestBuilder);
+        when(calendarViewRequestBuilder.get(any())).thenReturn(firstPage);
+        when(calendarViewRequestBuilder.withUrl(firstPage.getOdataNextLink())).thenReturn(nextPageRequestBuilder);
+        when(nextPageRequestBuilder.get()).thenThrow(new ODataError());
+
+        assertThatThrownBy(() -> graphAPIService.getEvents(MAILBOX, "2025-10-01", "2025-10-31"))
+            .isInstanceOf(GraphAPIException.class);
+        assertThat(tracer.getSpans())
+            .filteredOn(span -> span.getName().equals("graph calendarView.page"))
+            .singleElement()
+            .satisfies(span -> assertThat(span.getError()).isInstanceOf(ODataError.class));
+    }
+
+    @Test
+    void shouldPropagateErrorThrownWhilePrefetchingPages() {
+        EventCollectionResponse firstPage = new EventCollectionResponse();
+        firstPage.setValue(List.of(new Event()));
+        firstPage.setOdataNextLink("https://graph.microsoft.com/v1.0/me/calendarView?$skip=1");
+
+        when(clients.user(MAILBOX)).thenReturn(userItemRequestBuilder);
+        when(userItemRequestBuilder.calendarView()).thenReturn(calendarViewRequestBuilder);
+        when(calendarViewRequestBuilder.get(any())).thenReturn(firstPage);
+        when(calendarViewRequestBuilder.withUrl(firstPage.getOdataNextLink())).thenReturn(nextPageRequestBuilder);
+        when(nextPageRequestBuilder.get()).thenThrow(new OutOfMemoryError("page too large"));
+
+        assertThatThrownBy(() -> graphAPIService.getEvents(MAILBOX, "2025-10-01", "2025-10-31"))
+            .isInstanceOf(OutOfMemoryError.class)
+            .hasMessage("page too large");
+    }
+
+    @Test
+    void shouldRouteFirstPageThroughBatchExecutorWhenEnabled() {
+        EventCollectionResponse response = new EventCollectionResponse();
+        response.setValue(List.of(new Event()));
+        RequestInformation requestInformation = new RequestInformation();
+
+        when(batchExecutor.isEnabled()).thenReturn(true);
+        when(clients.user(MAILBOX)).thenReturn(userItemRequestBuilder);
+        when(userItemRequestBuilder.calendarView()).thenReturn(calendarViewRequestBuilder);
+        when(calendarViewRequestBuilder.toGetRequestInformation(any())).thenReturn(requestInformation);
+        when(clients.clientFor(MAILBOX)).thenReturn(graphServiceClient);
+        when(batchExecutor.execute(eq(graphServiceClient), eq(requestInformation), any(), any())).thenReturn(response);
+
+        List<Event> events = graphAPIService.getEvents(MAILBOX, "2025-10-01", "2025-10-31");
+
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    void shouldBatchScheduleRequestsAndDropFailedMailboxes() {
+        List<String> participants = IntStream.range(0, 25)
+            .mapToObj(i -> "user" + i + "@company.com")
+            .toList();
+
+        when(clients.user(MAILBOX)).thenReturn(userItemRequestBuilder);
+        when(userItemRequestBuilder.calendar()).thenReturn(calendarRequestBuilder);
+        when(calendarRequestBuilder.getSchedule()).thenReturn(getScheduleRequestBuilder);
+        when(getScheduleRequestBuilder.post(any(GetSchedulePostRequestBody.class))).thenAnswer(invocation -> {
+            GetSchedulePostRequestBody body = invocation.getArgument(0);
+            GetSchedulePostResponse response = new GetSchedulePostResponse();
+            response.setValue(body.getSchedules().stream()
+                .filter(schedule -> !schedule.equals("user7@company.com"))
+                .map(schedule -> {
+                    ScheduleInformation info = new ScheduleInformation();
+                    info.setScheduleId(schedule);
+                    if (!schedule.equals("user3@company.com")) {
+                        info.setAvailabilityView("0".repeat(96));
+                    }
+                    return info;
+                })
+                .toList());
+            return response;
+        });
+
+        Map<String, String> views = graphAPIService.getAvailabilityViews(MAILBOX, participants,
+            OffsetDateTime.parse("2025-10-20T00:00:00Z"),
+            OffsetDateTime.parse("2025-10-21T00:00:00Z"),
+            15);
+
+        verify(getScheduleRequestBuilder, times(2)).post(any(GetSchedulePostRequestBody.class));
+        assertThat(views).hasSize(23).doesNotContainKeys("user3@company.com", "user7@company.com");
+        assertThat(views.get("user0@company.com")).hasSize(96);
+    }
+
+    @Test
+    void shouldCreateEventsInOneBatchAndResendOnlyThrottledOnes() {
+        Event created1 = new Event();
+        created1.setId("event-1");
+        Event created2 = new Event();
+        created2.setId("event-2");
+
+        when(clients.clientFor(MAILBOX)).thenReturn(graphServiceClient);
+        when(clients.user(MAILBOX)).thenReturn(userItemRequestBuilder);
+        when(userItemRequestBuilder.events()).thenReturn(eventsRequestBuilder);
+        when(eventsRequestBuilder.toPostRequestInformation(any(Event.class))).thenAnswer(invocation -> new RequestInformation());
+        when(batchExecutor.sendAll(eq(graphServiceClient), any()))
+            .thenReturn(List.of(
+                new BatchStepResult(201, created1),
+                new BatchStepResult(429, null, "0"),
+                new BatchStepResult(409, null)))
+            .thenReturn(List.of(new BatchStepResult(201, created2)));
+
+        List<EventCreation> results = graphAPIService.createEvents(MAILBOX, List.of(new Event(), new Event(), new Event()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BatchStep>> steps = ArgumentCaptor.forClass(List.class);
+        verify(batchExecutor, times(2)).sendAll(eq(graphServiceClient), steps.capture());
+        assertThat(steps.getAllValues()).extracting(List::size).containsExactly(3, 1);
+
+        assertThat(results).extracting(EventCreation::isCreated).containsExactly(true, true, false);
+        assertThat(results.get(0).created().getId()).isEqualTo("event-1");
+        assertThat(results.get(1).created().getId()).isEqualTo("event-2");
+        assertThat(results.get(2).statusCode()).isEqualTo(409);
+        assertThat(meterRegistry.get("graph.request.duration")
+            .tags("operation", "events.create", "status", "429")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportEveryEventAsFailedWhenBatchRequestFails() {
+        when(clients.clientFor(MAILBOX)).thenReturn(graphServiceClient);
+        when(clients.user(MAILBOX)).thenReturn(userItemRequestBuilder);
+        when(userItemRequestBuilder.events()).thenReturn(eventsRequestBuilder);
+        when(eventsRequestBuilder.toPostRequestInformation(any(Event.class))).thenAnswer(invocation -> new RequestInformation());
+        when(batchExecutor.sendAll(eq(graphServiceClient), any())).thenThrow(new GraphAPIException("MS Graph $batch request failed"));
+
+        List<EventCreation> results = graphAPIService.createEvents(MAILBOX, List.of(new Event(), new Event()));
+
+        assertThat(results).hasSize(2).allSatisfy(result -> {
+            assertThat(result.isCreated()).isFalse();
+            assertThat(result.error()).isEqualTo("MS Graph $batch request failed");
+        });
+    }
+
+    @Test
+    void shouldOnlyFailEventsOfTheBatchThatFailed() {
+        Event created = new Event();
+        created.setId("event-1");
+
+        when(clients.clientFor(MAILBOX)).thenReturn(graphServiceClient);
+        when(clients.user(MAILBOX)).thenReturn(userItemRequestBuilder);
+        when(userItemRequestBuilder.events()).thenReturn(eventsRequestBuilder);
+        when(eventsRequestBuilder.toPostRequestInformation(any(Event.class))).thenAnswer(invocation -> new RequestInformation());
+        when(batchExecutor.sendAll(eq(graphServiceClient), any()))
+            .thenReturn(Collections.nCopies(4, new BatchStepResult(201, created)))
+            .thenThrow(new GraphAPIException("MS Graph $batch request failed"));
+
+        List<EventCreation> results = graphAPIService.createEvents(MAILBOX, Collections.nCopies(5, new Event()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BatchStep>> steps = ArgumentCaptor.forClass(List.class);
+        verify(batchExecutor, times(2)).sendAll(eq(graphServiceClient), steps.capture());
+        assertThat(steps.getAllValues()).extracting(List::size).containsExactly(4, 1);
+        assertThat(results).extracting(EventCreation::isCreated).containsExactly(true, true, true, true, false);
+        assertThat(results.get(4).error()).isEqualTo("MS Graph $batch request failed");
+    }
+
+    @Test
+    void shouldSendNoMoreCreationsThanFreeConcurrencySlots() {
+        properties.getThrottle().setInitialConcurrency(2);
+        graphAPIService = new GraphAPIService(clients, properties, batchExecutor, new GraphThrottleController(properties), meterRegistry, tracer);
+        Event created = new Event();
+        created.setId("event-1");
+
+        when(clients.clientFor(MAILBOX)).thenReturn(graphServiceClient);
+        when(clients.user(MAILBOX)).thenReturn(userItemRequestBuilder);
+        when(userItemRequestBuilder.events()).thenReturn(eventsRequestBuilder);
+        when(eventsRequestBuilder.toPostRequestInformation(any(Event.class))).thenAnswer(invocation -> new RequestInformation());
+        when(batchExecutor.sendAll(eq(graphServiceClient), any())).thenAnswer(invocation ->
+            Collections.nCopies(invocation.<List<BatchStep>>getArgument(1).size(), new BatchStepResult(201, created)));
+
+        List<EventCreation> results = graphAPIService.createEvents(MAILBOX, Collections.nCopies(4, new Event()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BatchStep>> steps = ArgumentCaptor.forClass(List.class);
+        verify(batchExecutor, times(2)).sendAll(eq(graphServiceClient), steps.capture());
+        assertThat(steps.getAllValues()).extracting(List::size).containsExactly(2, 2);
+        assertThat(results).allMatch(EventCreation::isCreated);
+    }
+
+    @Test
+    void shouldReportStaleETagWhenRescheduling() {
+        ODataError preconditionFailed = (ODataError) new ApiExceptionBuilder(ODataError::new)
+            .withResponseStatusCode(412)
+            .build();
+        when(clients.user(MAILBOX)).thenReturn(userItemRequestBuilder);
+        when(userItemRequestBuilder.events()).thenReturn(eventsRequestBuilder);
+        when(eventsRequestBuilder.byEventId("event-1")).thenReturn(eventItemRequestBuilder);
+        when(eventItemRequestBuilder.patch(any(Event.class), any())).thenThrow(preconditionFailed);
+
+        assertThatThrownBy(() -> graphAPIService.rescheduleEvent(MAILBOX, "event-1",
+            OffsetDateTime.parse("2025-10-16T14:00:00Z"), OffsetDateTime.parse("2025-10-16T15:00:00Z"), "W/\"v1\""))
+            .isInstanceOf(EventChangedException.class)
+            .hasCause(preconditionFailed);
+        assertThat(meterRegistry.get("graph.request.duration")
+            .tags("operation", "events.update", "status", "412")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRescheduleWithoutIfMatchWhenEventHasNoETag() {
+        Event updated = new Event();
+        List<String> ifMatch = new ArrayList<>();
+        when(clients.user(MAILBOX)).thenReturn(userItemRequestBuilder);
+        when(userItemRequestBuilder.events()).thenReturn(eventsRequestBuilder);
+        when(eventsRequestBuilder.byEventId("event-1")).thenReturn(eventItemRequestBuilder);
+        when(eventItemRequestBuilder.patch(any(Event.class), any())).thenAnswer(invocation -> {
+            EventItemRequestBuilder.PatchRequestConfiguration config = eventItemRequestBuilder.new PatchRequestConfiguration();
+            invocation.<Consumer<EventItemRequestBuilder.PatchRequestConfiguration>>getArgument(1).accept(config);
+            if (config.headers.containsKey("If-Match")) {
+                ifMatch.addAll(config.headers.get("If-Match"));
+            }
+            return updated;
+        });
+
+        Event result = graphAPIService.rescheduleEvent(MAILBOX, "event-1",
+            OffsetDateTime.parse("2025-10-16T14:00:00Z"), OffsetDateTime.parse("2025-10-16T15:00:00Z"), null);
+
+        assertThat(result).isSameAs(updated);
+        assertThat(ifMatch).isEmpty();
+    }
+
+    @Test
+    void shouldReadETagFromODataAnnotation() {
+        Event event = new Event();
+        event.setChangeKey("DwAAABYAAAD");
+        assertThat(GraphAPIService.etagOf(event)).isEqualTo("W/\"DwAAABYAAAD\"");
+
+        event.getAdditionalData().put("@odata.etag", "W/\"from-annotation\"");
+        assertThat(GraphAPIService.etagOf(event)).isEqualTo("W/\"from-annotation\"");
+    }
 }
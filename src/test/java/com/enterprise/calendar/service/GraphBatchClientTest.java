@@ -0,0 +1,91 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.service.GraphBatchClient.BatchStep;
+import com.enterprise.calendar.service.GraphBatchClient.BatchStepResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.graph.models.Event;
+import com.microsoft.graph.serviceclient.GraphServiceClient;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphBatchClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Request> sent = new ArrayList<>();
+
+    private GraphServiceClient graphServiceClient;
+    private GraphBatchClient batchClient;
+
+    @BeforeEach
+    void setUp() {
+        // Answers every $batch with a created event for the first step and a throttled second step
+        Interceptor cannedBatch = chain -> {
+            Request request = chain.request();
+            sent.add(request);
+            JsonNode steps = objectMapper.readTree(bodyOf(request)).get("requests");
+            String json = """
+                {"responses": [
+                  {"id": "%s", "status": 201, "headers": {"Content-Type": "application/json"},
+                   "body": {"id": "created-1", "subject": "Vacation"}},
+                  {"id": "%s", "status": 429, "headers": {"Retry-After": "7", "Content-Type": "application/json"},
+                   "body": {"error": {"code": "TooManyRequests", "message": "Throttled"}}}
+                ]}
+                """.formatted(steps.get(0).get("id").asText(), steps.get(1).get("id").asText());
+            return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create(json, MediaType.get("application/json")))
+                .build();
+        };
+        graphServiceClient = new GraphServiceClient(new OkHttpClient.Builder().addInterceptor(cannedBatch).build());
+        batchClient = new GraphBatchClient();
+    }
+
+    @Test
+    void shouldMapBatchResponsesToStepsInOrder() throws IOException {
+        List<BatchStep> steps = List.of(step("Vacation"), step("Vacation"));
+
+        List<BatchStepResult> results = batchClient.send(graphServiceClient, steps);
+
+        assertThat(sent).singleElement()
+            .satisfies(request -> assertThat(request.url().encodedPath()).endsWith("/$batch"));
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).statusCode()).isEqualTo(201);
+        assertThat(results.get(0).body()).isInstanceOfSatisfying(Event.class,
+            event -> assertThat(event.getId()).isEqualTo("created-1"));
+        assertThat(results.get(1).statusCode()).isEqualTo(429);
+        assertThat(results.get(1).body()).isNull();
+        assertThat(results.get(1).retryAfter()).isEqualTo("7");
+    }
+
+    private BatchStep step(String subject) {
+        Event event = new Event();
+        event.setSubject(subject);
+        return new BatchStep(
+            graphServiceClient.users().byUserId("alice@contoso.com").events().toPostRequestInformation(event),
+            Event::createFromDiscriminatorValue);
+    }
+
+    private static String bodyOf(Request request) throws IOException {
+        Buffer buffer = new Buffer();
+        request.body().writeTo(buffer);
+        return buffer.readUtf8();
+    }
+}
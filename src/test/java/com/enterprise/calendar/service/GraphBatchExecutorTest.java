@@ -0,0 +1,254 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.config.GraphProperties;
+import com.enterprise.calendar.exception.BatchStepException;
+import com.enterprise.calendar.service.GraphBatchClient.BatchStep;
+import com.enterprise.calendar.service.GraphBatchClient.BatchStepResult;
+import com.enterprise.calendar.service.GraphThrottleController.AdaptiveLimit;
+import com.enterprise.calendar.service.GraphThrottleController.Admission;
+import com.microsoft.graph.models.Event;
+import com.microsoft.graph.models.odataerrors.ODataError;
+import com.microsoft.graph.serviceclient.GraphServiceClient;
+import com.microsoft.kiota.ApiExceptionBuilder;
+import com.microsoft.kiota.RequestInformation;
+import com.microsoft.kiota.ResponseHeaders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GraphBatchExecutorTest {
+
+    private static final Admission UNLIMITED = Admission.unlimited();
+
+    @Mock
+    private GraphBatchClient batchClient;
+
+    @Mock
+    private GraphServiceClient client;
+
+    private GraphProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private SimpleTracer tracer;
+    private GraphBatchExecutor batchExecutor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GraphProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        tracer = new SimpleTracer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchExecutor.shutdown();
+    }
+
+    @Test
+    void shouldCoalesceRequestsWithinWindowIntoOneBatch() throws Exception {
+        properties.getBatch().setWindow(Duration.ofMillis(50));
+        batchExecutor = new GraphBatchExecutor(batchClient, properties, meterRegistry, tracer);
+
+        Event first = event("event-1");
+        Event second = event("event-2");
+        Event third = event("event-3");
+        when(batchClient.send(eq(client), anyList())).thenReturn(List.of(
+            new BatchStepResult(200, first),
+            new BatchStepResult(200, second),
+            new BatchStepResult(200, third)
+        ));
+
+        CompletableFuture<Event> firstResult = batchExecutor.submit(client, new RequestInformation(), Event::createFromDiscriminatorValue, UNLIMITED);
+        CompletableFuture<Event> secondResult = batchExecutor.submit(client, new RequestInformation(), Event::createFromDiscriminatorValue, UNLIMITED);
+        CompletableFuture<Event> thirdResult = batchExecutor.submit(client, new RequestInformation(), Event::createFromDiscriminatorValue, UNLIMITED);
+
+        assertThat(firstResult.join()).isSameAs(first);
+        assertThat(secondResult.join()).isSameAs(second);
+        assertThat(thirdResult.join()).isSameAs(third);
+        verify(batchClient).send(eq(client), anyList());
+        assertThat(meterRegistry.get("graph.batch.fill.ratio").summary().totalAmount()).isEqualTo(3.0 / 20);
+    }
+
+    @Test
+    void shouldFailOnlyTheCallerWhoseSubRequestFailed() throws Exception {
+        properties.getBatch().setWindow(Duration.ofMillis(50));
+        batchExecutor = new GraphBatchExecutor(batchClient, properties, meterRegistry, tracer);
+
+        Event ok = event("event-1");
+        when(batchClient.send(eq(client), anyList())).thenReturn(List.of(
+            new BatchStepResult(200, ok),
+            new BatchStepResult(404, null)
+        ));
+
+        CompletableFuture<Event> okResult = batchExecutor.submit(client, new RequestInformation(), Event::createFromDiscriminatorValue, UNLIMITED);
+        CompletableFuture<Event> failedResult = batchExecutor.submit(client, new RequestInformation(), Event::createFromDiscriminatorValue, UNLIMITED);
+
+        assertThat(okResult.join()).isSameAs(ok);
+        assertThatThrownBy(failedResult::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(BatchStepException.class);
+    }
+
+    @Test
+    void shouldFlushImmediatelyWhenBatchIsFull() throws Exception {
+        properties.getBatch().setWindow(Duration.ofSeconds(30));
+        properties.getBatch().setMaxSize(2);
+        batchExecutor = new GraphBatchExecutor(batchClient, properties, meterRegistry, tracer);
+
+        when(batchClient.send(eq(client), anyList())).thenReturn(List.of(
+            new BatchStepResult(200, event("event-1")),
+            new BatchStepResult(200, event("event-2"))
+        ));
+
+        batchExecutor.submit(client, new RequestInformation(), Event::createFromDiscriminatorValue, UNLIMITED);
+        batchExecutor.submit(client, new RequestInformation(), Event::createFromDiscriminatorValue, UNLIMITED);
+
+        verify(batchClient, timeout(1000)).send(eq(client), anyList());
+    }
+
+    @Test
+    void shouldSendLoneRequestWithoutBatchEnvelope() throws Exception {
+        properties.getBatch().setWindow(Duration.ofMillis(10));
+        batchExecutor = new GraphBatchExecutor(batchClient, properties, meterRegistry, tracer);
+
+        Event single = event("event-1");
+        when(batchClient.sendSingle(eq(client), any(BatchStep.class))).thenReturn(single);
+
+        Event result = batchExecutor.execute(client, new RequestInformation(), Event::createFromDiscriminatorValue, UNLIMITED);
+
+        assertThat(result).isSameAs(single);
+        verify(batchClient, never()).send(any(), anyList());
+    }
+
+    @Test
+    void shouldNotBatchRequestsOfDifferentClientsTogether() throws Exception {
+        properties.getBatch().setWindow(Duration.ofMillis(50));
+        batchExecutor = new GraphBatchExecutor(batchClient, properties, meterRegistry, tracer);
+        GraphServiceClient otherTenant = mock(GraphServiceClient.class);
+
+        when(batchClient.sendSingle(eq(client), any(BatchStep.class))).thenReturn(event("event-1"));
+        when(batchClient.sendSingle(eq(otherTenant), any(BatchStep.class))).thenReturn(event("event-2"));
+
+        CompletableFuture<Event> first = batchExecutor.submit(client, new RequestInformation(), Event::createFromDiscriminatorValue, UNLIMITED);
+        CompletableFuture<Event> second = batchExecutor.submit(otherTenant, new RequestInformation(), Event::createFromDiscriminatorValue, UNLIMITED);
+
+        assertThat(first.join().getId()).isEqualTo("event-1");
+        assertThat(second.join().getId()).isEqualTo("event-2");
+        verify(batchClient, never()).send(any(), anyList());
+    }
+
+    @Test
+    void shouldKeepRequestQueuedUntilItsMailboxHasASlot() throws Exception {
+        properties.getBatch().setWindow(Duration.ofMillis(10));
+        properties.getThrottle().setInitialConcurrency(1);
+        properties.getThrottle().setMaxConcurrency(1);
+        batchExecutor = new GraphBatchExecutor(batchClient, properties, meterRegistry, tracer);
+        AdaptiveLimit limit = new AdaptiveLimit(properties.getThrottle());
+        Admission running = new Admission(limit);
+        assertThat(running.tryAcquire()).isTrue();
+        when(batchClient.sendSingle(eq(client), any(BatchStep.class))).thenReturn(event("event-1"));
+
+        CompletableFuture<Event> result = batchExecutor.submit(client, new RequestInformation(),
+            Event::createFromDiscriminatorValue, new Admission(limit));
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(result).isNotDone();
+
+        running.release();
+        assertThat(result.get(5, TimeUnit.SECONDS).getId()).isEqualTo("event-1");
+    }
+
+    @Test
+    void shouldSendAllStepsRightAwayInChunksOfMaxSize() throws Exception {
+        batchExecutor = new GraphBatchExecutor(batchClient, properties, meterRegistry, tracer);
+
+        List<BatchStep> steps = IntStream.range(0, 21)
+            .mapToObj(i -> new BatchStep(new RequestInformation(), Event::createFromDiscriminatorValue))
+            .toList();
+        List<BatchStepResult> firstChunk = IntStream.range(0, 20)
+            .mapToObj(i -> new BatchStepResult(201, event("event-" + i)))
+            .toList();
+        when(batchClient.send(client, steps.subList(0, 20))).thenReturn(firstChunk);
+        ResponseHeaders headers = new ResponseHeaders();
+        headers.add("retry-after", "3");
+        ODataError throttled = (ODataError) new ApiExceptionBuilder(ODataError::new)
+            .withResponseStatusCode(429)
+            .withResponseHeaders(headers)
+            .build();
+        when(batchClient.sendSingle(client, steps.get(20))).thenThrow(throttled);
+
+        List<BatchStepResult> results = batchExecutor.sendAll(client, steps);
+
+        assertThat(results).hasSize(21);
+        assertThat(results.subList(0, 20)).isEqualTo(firstChunk);
+        assertThat(results.get(20).statusCode()).isEqualTo(429);
+        assertThat(results.get(20).retryAfter()).isEqualTo("3");
+        assertThat(meterRegistry.get("graph.batch.sent").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSendSharedBatchUnderFirstCallerAndLinkTheOthers() throws Exception {
+        properties.getBatch().setWindow(Duration.ofMillis(50));
+        batchExecutor = new GraphBatchExecutor(batchClient, properties, meterRegistry, tracer);
+        when(batchClient.send(eq(client), anyList())).thenAnswer(invocation -> {
+            assertThat(tracer.currentSpan()).isNotNull();
+            return List.of(new BatchStepResult(200, event("event-1")), new BatchStepResult(200, event("event-2")));
+        });
+
+        Span first = tracer.nextSpan().name("graph calendarView").start();
+        Span second = tracer.nextSpan().name("graph calendarView.delta").start();
+        CompletableFuture<Event> firstResult;
+        CompletableFuture<Event> secondResult;
+        try (Tracer.SpanInScope scope = tracer.withSpan(first)) {
+            firstResult = batchExecutor.submit(client, new RequestInformation(), Event::createFromDiscriminatorValue, UNLIMITED);
+        }
+        try (Tracer.SpanInScope scope = tracer.withSpan(second)) {
+            secondResult = batchExecutor.submit(client, new RequestInformation(), Event::createFromDiscriminatorValue, UNLIMITED);
+        }
+        CompletableFuture.allOf(firstResult, secondResult).join();
+        first.end();
+        second.end();
+
+        SimpleSpan batch = tracer.getSpans().stream()
+            .filter(span -> span.getName().equals("graph.batch"))
+            .findFirst()
+            .orElseThrow();
+        assertThat(batch.getTraceId()).isEqualTo(first.context().traceId());
+        assertThat(batch.getParentId()).isEqualTo(first.context().spanId());
+        assertThat(batch.getLinks().stream().map(link -> link.getTraceContext().spanId()))
+            .containsExactly(second.context().spanId());
+        assertThat(batch.getTags()).containsEntry("graph.batch.size", "2");
+    }
+
+    private Event event(String id) {
+        Event event = new Event();
+        event.setId(id);
+        return event;
+    }
+}
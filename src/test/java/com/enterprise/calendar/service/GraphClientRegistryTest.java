@@ -0,0 +1,93 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.config.GraphProperties;
+import com.enterprise.calendar.store.CalendarEventStore;
+import com.microsoft.graph.serviceclient.GraphServiceClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GraphClientRegistryTest {
+
+    private GraphProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private GraphClientRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GraphProperties();
+        properties.setTenantId("default-tenant");
+        properties.setClientId("default-client");
+        properties.setClientSecret("default-secret");
+        properties.setScope("https://graph.microsoft.com/.default");
+
+        GraphProperties.Tenant contoso = new GraphProperties.Tenant();
+        contoso.setTenantId("contoso-tenant");
+        contoso.setClientId("contoso-client");
+        contoso.setClientSecret("contoso-secret");
+        contoso.setDomains(List.of("Contoso.com"));
+        properties.getTenants().put("contoso", contoso);
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void shouldRouteMailboxesByDomain() {
+        registry = new GraphClientRegistry(properties, new OkHttpClient(), Tracer.NOOP, meterRegistry);
+
+        assertThat(registry.tenantFor("alice@contoso.com")).isEqualTo("contoso");
+        assertThat(registry.tenantFor("Bob@CONTOSO.COM")).isEqualTo("contoso");
+        assertThat(registry.tenantFor("carol@fabrikam.com")).isEqualTo(GraphClientRegistry.DEFAULT_TENANT);
+        assertThat(registry.tenantFor(CalendarEventStore.DEFAULT_MAILBOX)).isEqualTo(GraphClientRegistry.DEFAULT_TENANT);
+    }
+
+    @Test
+    void shouldCreateOneClientPerTenant() {
+        registry = new GraphClientRegistry(properties, new OkHttpClient(), Tracer.NOOP, meterRegistry);
+
+        GraphServiceClient first = registry.clientFor("alice@contoso.com");
+        GraphServiceClient second = registry.clientFor("bob@contoso.com");
+        GraphServiceClient other = registry.clientFor("carol@fabrikam.com");
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(meterRegistry.get("graph.clients").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectUnknownTenant() {
+        registry = new GraphClientRegistry(properties, new OkHttpClient(), Tracer.NOOP, meterRegistry);
+
+        assertThatThrownBy(() -> registry.client("unknown"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("unknown");
+    }
+
+    @Test
+    void shouldEvictIdleClientsExceptDefaultTenant() throws InterruptedException {
+        properties.getClientPool().setIdleTimeout(Duration.ofMillis(10));
+        registry = new GraphClientRegistry(properties, new OkHttpClient(), Tracer.NOOP, meterRegistry);
+
+        GraphServiceClient contoso = registry.client("contoso");
+        GraphServiceClient defaultClient = registry.client(GraphClientRegistry.DEFAULT_TENANT);
+        Thread.sleep(20);
+        registry.evictIdle();
+
+        assertThat(registry.client("contoso")).isNotSameAs(contoso);
+        assertThat(registry.client(GraphClientRegistry.DEFAULT_TENANT)).isSameAs(defaultClient);
+    }
+}
@@ -0,0 +1,74 @@
+package com.enterprise.calendar.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GraphHttpMetricsInterceptorTest {
+
+    private static final Request REQUEST = new Request.Builder()
+        .url("https://graph.microsoft.com/v1.0/me/calendarView")
+        .build();
+
+    @Mock
+    private Interceptor.Chain chain;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GraphHttpMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new GraphHttpMetricsInterceptor(meterRegistry);
+        when(chain.request()).thenReturn(REQUEST);
+    }
+
+    @Test
+    void shouldRecordProtocolEncodingAndWireSize() throws IOException {
+        when(chain.proceed(REQUEST)).thenReturn(response(Protocol.HTTP_2, "gzip", new byte[512]));
+
+        interceptor.intercept(chain);
+
+        assertThat(meterRegistry.get("graph.http.responses").tag("protocol", "h2").tag("encoding", "gzip")
+            .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("graph.http.response.size").tag("encoding", "gzip")
+            .summary().totalAmount()).isEqualTo(512);
+    }
+
+    @Test
+    void shouldTreatMissingContentEncodingAsIdentity() throws IOException {
+        when(chain.proceed(REQUEST)).thenReturn(response(Protocol.HTTP_1_1, null, new byte[64]));
+
+        interceptor.intercept(chain);
+
+        assertThat(meterRegistry.get("graph.http.responses").tag("protocol", "http/1.1").tag("encoding", "identity")
+            .counter().count()).isEqualTo(1);
+    }
+
+    private static Response response(Protocol protocol, String contentEncoding, byte[] body) {
+        Response.Builder builder = new Response.Builder()
+            .request(REQUEST)
+            .protocol(protocol)
+            .code(200)
+            .message("OK")
+            .body(ResponseBody.create(body, null));
+        if (contentEncoding != null) {
+            builder.header("Content-Encoding", contentEncoding);
+        }
+        return builder.build();
+    }
+}
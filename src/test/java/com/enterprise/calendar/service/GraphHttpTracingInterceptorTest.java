@@ -0,0 +1,71 @@
+package com.enterprise.calendar.service;
+
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GraphHttpTracingInterceptorTest {
+
+    private static final Request REQUEST = new Request.Builder()
+        .url("https://graph.microsoft.com/v1.0/me/calendarView?startDateTime=2025-10-20T00:00:00Z")
+        .build();
+
+    @Mock
+    private Interceptor.Chain chain;
+
+    private SimpleTracer tracer;
+    private GraphHttpTracingInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        tracer = new SimpleTracer();
+        interceptor = new GraphHttpTracingInterceptor(tracer);
+        when(chain.request()).thenReturn(REQUEST);
+    }
+
+    @Test
+    void shouldRecordClientSpanWithStatusAndRequestId() throws IOException {
+        when(chain.proceed(REQUEST)).thenReturn(new Response.Builder()
+            .request(REQUEST)
+            .protocol(Protocol.HTTP_2)
+            .code(429)
+            .message("Too Many Requests")
+            .header("request-id", "5f3c2a1e-0000-4000-8000-000000000001")
+            .build());
+
+        Response response = interceptor.intercept(chain);
+
+        assertThat(response.code()).isEqualTo(429);
+        SimpleSpan span = tracer.onlySpan();
+        assertThat(span.getName()).isEqualTo("HTTP GET");
+        assertThat(span.getTags())
+            .containsEntry("url.path", "/v1.0/me/calendarView")
+            .containsEntry("http.response.status_code", "429")
+            .containsEntry("graph.request_id", "5f3c2a1e-0000-4000-8000-000000000001");
+    }
+
+    @Test
+    void shouldRecordTransportErrors() throws IOException {
+        when(chain.proceed(REQUEST)).thenThrow(new SocketTimeoutException("timeout"));
+
+        assertThatThrownBy(() -> interceptor.intercept(chain)).isInstanceOf(SocketTimeoutException.class);
+
+        assertThat(tracer.onlySpan().getError()).isInstanceOf(SocketTimeoutException.class);
+    }
+}
@@ -0,0 +1,162 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.config.GraphProperties;
+import com.enterprise.calendar.exception.BatchStepException;
+import com.enterprise.calendar.exception.GraphAPIException;
+import com.microsoft.graph.models.odataerrors.ODataError;
+import com.microsoft.kiota.ApiExceptionBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GraphThrottleControllerTest {
+
+    private static final String MAILBOX = "me";
+
+    private GraphProperties properties;
+    private GraphThrottleController controller;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GraphProperties();
+        properties.getThrottle().setDefaultRetryAfter(Duration.ZERO);
+        properties.getThrottle().setAppRequestsPerSecond(10_000);
+        properties.getThrottle().setMailboxRequestsPerSecond(10_000);
+        controller = new GraphThrottleController(properties);
+    }
+
+    @Test
+    void shouldRetryThrottledCallAndHalveConcurrencyLimit() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = controller.execute(MAILBOX, () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new BatchStepException(429, "0", "throttled");
+            }
+            return "events";
+        });
+
+        assertThat(result).isEqualTo("events");
+        assertThat(calls).hasValue(2);
+        assertThat(controller.currentLimit(MAILBOX)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRethrowWhenStillThrottledAfterMaxRetries() {
+        properties.getThrottle().setMaxRetries(2);
+        AtomicInteger calls = new AtomicInteger();
+        ODataError throttled = (ODataError) new ApiExceptionBuilder(ODataError::new)
+            .withResponseStatusCode(503)
+            .build();
+
+        assertThatThrownBy(() -> controller.execute(MAILBOX, () -> {
+            calls.incrementAndGet();
+            throw throttled;
+        })).isSameAs(throttled);
+
+        assertThat(calls).hasValue(3);
+        assertThat(controller.currentLimit(MAILBOX)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecognizeThrottlingWrappedByBatchExecutor() {
+        AtomicInteger calls = new AtomicInteger();
+
+        controller.execute(MAILBOX, () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new GraphAPIException("MS Graph $batch request failed", new BatchStepException(429, "throttled"));
+            }
+            return "ok";
+        });
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void shouldNotRetryOtherErrors() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> controller.execute(MAILBOX, () -> {
+            calls.incrementAndGet();
+            throw new BatchStepException(404, "not found");
+        })).isInstanceOf(BatchStepException.class);
+
+        assertThat(calls).hasValue(1);
+        assertThat(controller.currentLimit(MAILBOX)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldGrowConcurrencyLimitAdditivelyUpToMax() {
+        for (int i = 0; i < 5; i++) {
+            controller.execute(MAILBOX, () -> "ok");
+        }
+        assertThat(controller.currentLimit(MAILBOX)).isEqualTo(5);
+
+        for (int i = 0; i < 100; i++) {
+            controller.execute(MAILBOX, () -> "ok");
+        }
+        assertThat(controller.currentLimit(MAILBOX)).isEqualTo(8);
+    }
+
+    @Test
+    void shouldKeepMailboxLimitsIndependent() {
+        properties.getThrottle().setMaxRetries(0);
+
+        assertThatThrownBy(() -> controller.execute("noisy@company.com", () -> {
+            throw new BatchStepException(429, "0", "throttled");
+        })).isInstanceOf(BatchStepException.class);
+
+        assertThat(controller.currentLimit("noisy@company.com")).isEqualTo(2);
+        assertThat(controller.currentLimit("quiet@company.com")).isEqualTo(4);
+    }
+
+    @Test
+    void shouldTakeSlotOfQueuedCallOnlyWhenAdmitted() {
+        properties.getThrottle().setInitialConcurrency(1);
+        properties.getThrottle().setMaxConcurrency(1);
+
+        String result = controller.executeQueued(MAILBOX, admission -> {
+            // While queued, the call leaves the only slot to others
+            controller.execute(MAILBOX, () -> {
+                assertThat(admission.tryAcquire()).isFalse();
+                return "direct";
+            });
+            assertThat(admission.tryAcquire()).isTrue();
+            return "queued";
+        });
+
+        assertThat(result).isEqualTo("queued");
+        assertThat(controller.execute(MAILBOX, () -> "released")).isEqualTo("released");
+    }
+
+    @Test
+    void shouldTakeSlotPerSubRequestAndFeedEachSubResponseIntoLimit() {
+        String result = controller.executeQueued(MAILBOX, admission -> {
+            assertThat(admission.acquire(MAILBOX, 6)).isEqualTo(4);
+            // Mostly throttled: one decrease, not a success of the batch as a whole
+            admission.report(429);
+            admission.report(429);
+            admission.report(429);
+            admission.report(201);
+            return "batch";
+        });
+
+        assertThat(result).isEqualTo("batch");
+        assertThat(controller.currentLimit(MAILBOX)).isEqualTo(2);
+        assertThat(controller.execute(MAILBOX, () -> "released")).isEqualTo("released");
+    }
+
+    @Test
+    void shouldParseRetryAfterSecondsAndDates() {
+        Duration fallback = Duration.ofSeconds(5);
+
+        assertThat(GraphThrottleController.parseRetryAfter("12", fallback)).isEqualTo(Duration.ofSeconds(12));
+        assertThat(GraphThrottleController.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT", fallback)).isEqualTo(Duration.ZERO);
+        assertThat(GraphThrottleController.parseRetryAfter("soon", fallback)).isEqualTo(fallback);
+    }
+}
@@ -0,0 +1,125 @@
+package com.enterprise.calendar.service;
+
+import com.azure.core.credential.AccessToken;
+import com.azure.core.credential.TokenRequestContext;
+import com.azure.identity.ClientSecretCredential;
+import com.enterprise.calendar.config.GraphProperties;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GraphTokenManagerTest {
+
+    private static final TokenRequestContext GRAPH_SCOPE = new TokenRequestContext().addScopes("https://graph.microsoft.com/.default");
+
+    @Mock
+    private ClientSecretCredential credential;
+
+    private GraphProperties properties;
+    private SimpleTracer tracer;
+    private GraphTokenManager tokenManager;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GraphProperties();
+        tracer = new SimpleTracer();
+        tokenManager = new GraphTokenManager(credential, properties, tracer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenManager.shutdown();
+    }
+
+    @Test
+    void shouldServeCachedTokenUntilRefreshIsDue() {
+        when(credential.getTokenSync(any())).thenReturn(token("first", Duration.ofHours(1)));
+
+        assertThat(tokenManager.hasValidToken()).isFalse();
+        AccessToken first = tokenManager.getTokenSync(GRAPH_SCOPE);
+        AccessToken second = tokenManager.getTokenSync(GRAPH_SCOPE);
+
+        assertThat(second).isSameAs(first);
+        assertThat(tokenManager.hasValidToken()).isTrue();
+        verify(credential, times(1)).getTokenSync(any());
+    }
+
+    @Test
+    void shouldRefreshInBackgroundBeforeExpiry() throws InterruptedException {
+        properties.getToken().setRefreshBefore(Duration.ofMinutes(5));
+        properties.getToken().setRefreshRetryInterval(Duration.ofMillis(50));
+        when(credential.getTokenSync(any()))
+            .thenReturn(token("expiring", Duration.ofMinutes(5)))
+            .thenReturn(token("renewed", Duration.ofHours(1)));
+
+        assertThat(tokenManager.getTokenSync(GRAPH_SCOPE).getToken()).isEqualTo("expiring");
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (!tokenManager.getTokenSync(GRAPH_SCOPE).getToken().equals("renewed") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(tokenManager.getTokenSync(GRAPH_SCOPE).getToken()).isEqualTo("renewed");
+        verify(credential, times(2)).getTokenSync(any());
+    }
+
+    @Test
+    void shouldKeepServingValidTokenWhenBackgroundRefreshFails() {
+        properties.getToken().setRefreshBefore(Duration.ofMinutes(5));
+        properties.getToken().setRefreshRetryInterval(Duration.ofMillis(50));
+        when(credential.getTokenSync(any()))
+            .thenReturn(token("current", Duration.ofMinutes(5)))
+            .thenThrow(new IllegalStateException("identity endpoint unavailable"));
+
+        tokenManager.getTokenSync(GRAPH_SCOPE);
+
+        verify(credential, timeout(2000).atLeast(3)).getTokenSync(any());
+        assertThat(tokenManager.getTokenSync(GRAPH_SCOPE).getToken()).isEqualTo("current");
+    }
+
+    @Test
+    void shouldKeepSingleBackgroundRefreshAcrossOnDemandFetches() {
+        properties.getToken().setRefreshRetryInterval(Duration.ofMillis(300));
+        when(credential.getTokenSync(any())).thenAnswer(invocation -> token("expired", Duration.ofMinutes(-1)));
+
+        tokenManager.getTokenSync(GRAPH_SCOPE);
+        tokenManager.getTokenSync(GRAPH_SCOPE);
+        tokenManager.getTokenSync(GRAPH_SCOPE);
+
+        // Three on-demand fetches, then one background refresh rather than one per fetch
+        verify(credential, after(450).times(4)).getTokenSync(any());
+    }
+
+    @Test
+    void shouldTraceTokenFetchButNotCacheHits() {
+        when(credential.getTokenSync(any())).thenReturn(token("first", Duration.ofHours(1)));
+
+        tokenManager.getTokenSync(GRAPH_SCOPE);
+        tokenManager.getTokenSync(GRAPH_SCOPE);
+
+        SimpleSpan span = tracer.onlySpan();
+        assertThat(span.getName()).isEqualTo("graph.token");
+        assertThat(span.getTags()).containsEntry("graph.token.refresh", "on-demand");
+    }
+
+    private static AccessToken token(String value, Duration lifetime) {
+        return new AccessToken(value, OffsetDateTime.now().plus(lifetime));
+    }
+}
@@ -0,0 +1,225 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InFlightEventRequestsTest {
+
+    private static final String MAILBOX = "me";
+    private static final OffsetDateTime MONTH_START = OffsetDateTime.parse("2025-10-01T00:00:00Z");
+    private static final OffsetDateTime MONTH_END = OffsetDateTime.parse("2025-10-31T23:59:59Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private InFlightEventRequests inFlightRequests;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        inFlightRequests = new InFlightEventRequests(meterRegistry);
+    }
+
+    @Test
+    void shouldShareInFlightFetchWithCoveredRequest() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        AtomicInteger fetchCount = new AtomicInteger();
+        List<CalendarEvent> monthEvents = List.of(
+            event("early", "2025-10-02T10:00:00Z"),
+            event("mid", "2025-10-15T10:00:00Z")
+        );
+
+        CompletableFuture<List<CalendarEvent>> leader = CompletableFuture.supplyAsync(() -> {
+            List<CalendarEvent> received = new ArrayList<>();
+            inFlightRequests.execute(MAILBOX, MONTH_START, MONTH_END, received::addAll, pageConsumer -> {
+                fetchCount.incrementAndGet();
+                fetchStarted.countDown();
+                await(releaseFetch);
+                pageConsumer.accept(monthEvents);
+            });
+            return received;
+        });
+
+        assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<List<CalendarEvent>> follower = CompletableFuture.supplyAsync(() -> {
+            List<CalendarEvent> received = new ArrayList<>();
+            inFlightRequests.execute(MAILBOX,
+                OffsetDateTime.parse("2025-10-10T00:00:00Z"),
+                OffsetDateTime.parse("2025-10-20T23:59:59Z"),
+                received::addAll,
+                pageConsumer -> fetchCount.incrementAndGet());
+            return received;
+        });
+
+        // Give the follower time to join before the leader completes
+        TimeUnit.MILLISECONDS.sleep(100);
+        releaseFetch.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).extracting(CalendarEvent::id).containsExactly("early", "mid");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).extracting(CalendarEvent::id).containsExactly("mid");
+        assertThat(fetchCount).hasValue(1);
+        assertThat(meterRegistry.get("calendar.events.singleflight.shared").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldFetchAgainOnceFirstRequestCompleted() {
+        AtomicInteger fetchCount = new AtomicInteger();
+
+        inFlightRequests.execute(MAILBOX, MONTH_START, MONTH_END, page -> {}, pageConsumer -> fetchCount.incrementAndGet());
+        inFlightRequests.execute(MAILBOX, MONTH_START, MONTH_END, page -> {}, pageConsumer -> fetchCount.incrementAndGet());
+
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    void shouldPropagateLeaderFailure() {
+        assertThatThrownBy(() -> inFlightRequests.execute(MAILBOX, MONTH_START, MONTH_END, page -> {}, pageConsumer -> {
+            throw new IllegalStateException("Graph unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldStreamPagesToJoinerAsTheyArrive() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        CountDownLatch followerGotFirstPage = new CountDownLatch(1);
+        List<CalendarEvent> firstPage = List.of(event("first", "2025-10-02T10:00:00Z"));
+        List<CalendarEvent> secondPage = List.of(event("second", "2025-10-20T10:00:00Z"));
+
+        CompletableFuture<Boolean> leader = CompletableFuture.supplyAsync(() -> {
+            boolean[] streamed = {false};
+            inFlightRequests.execute(MAILBOX, MONTH_START, MONTH_END, page -> {}, pageConsumer -> {
+                fetchStarted.countDown();
+                await(releaseFetch);
+                pageConsumer.accept(firstPage);
+                // The follower sees the first page while the leader is still fetching
+                streamed[0] = await(followerGotFirstPage);
+                pageConsumer.accept(secondPage);
+            });
+            return streamed[0];
+        });
+
+        assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<List<CalendarEvent>> follower = CompletableFuture.supplyAsync(() -> {
+            List<CalendarEvent> received = new ArrayList<>();
+            inFlightRequests.execute(MAILBOX, MONTH_START, MONTH_END, page -> {
+                received.addAll(page);
+                followerGotFirstPage.countDown();
+            }, pageConsumer -> {});
+            return received;
+        });
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        releaseFetch.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(follower.get(5, TimeUnit.SECONDS)).extracting(CalendarEvent::id).containsExactly("first", "second");
+    }
+
+    @Test
+    void shouldNotJoinFetchThatAlreadyStreamedPages() throws Exception {
+        CountDownLatch firstPageSent = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        AtomicInteger fetchCount = new AtomicInteger();
+
+        CompletableFuture<Void> leader = CompletableFuture.runAsync(() ->
+            inFlightRequests.execute(MAILBOX, MONTH_START, MONTH_END, page -> {}, pageConsumer -> {
+                fetchCount.incrementAndGet();
+                pageConsumer.accept(List.of(event("first", "2025-10-02T10:00:00Z")));
+                firstPageSent.countDown();
+                await(releaseFetch);
+            }));
+
+        assertThat(firstPageSent.await(5, TimeUnit.SECONDS)).isTrue();
+        inFlightRequests.execute(MAILBOX, MONTH_START, MONTH_END, page -> {}, pageConsumer -> fetchCount.incrementAndGet());
+        releaseFetch.countDown();
+        leader.get(5, TimeUnit.SECONDS);
+
+        assertThat(fetchCount).hasValue(2);
+        assertThat(meterRegistry.get("calendar.events.singleflight.shared").counter().count()).isZero();
+    }
+
+    @Test
+    void shouldPropagateLeaderErrorToJoiner() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+
+        CompletableFuture<Void> leader = CompletableFuture.runAsync(() ->
+            inFlightRequests.execute(MAILBOX, MONTH_START, MONTH_END, page -> {}, pageConsumer -> {
+                fetchStarted.countDown();
+                await(releaseFetch);
+                throw new StackOverflowError();
+            }));
+
+        assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> follower = CompletableFuture.runAsync(() ->
+            inFlightRequests.execute(MAILBOX, MONTH_START, MONTH_END, page -> {}, pageConsumer -> {}));
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        releaseFetch.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+    }
+
+    @Test
+    void shouldKeepServingJoinerWhenLeaderConsumerFails() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+
+        CompletableFuture<Void> leader = CompletableFuture.runAsync(() ->
+            inFlightRequests.execute(MAILBOX, MONTH_START, MONTH_END, page -> {
+                throw new UncheckedIOException(new IOException("Broken pipe"));
+            }, pageConsumer -> {
+                fetchStarted.countDown();
+                await(releaseFetch);
+                pageConsumer.accept(List.of(event("first", "2025-10-02T10:00:00Z")));
+                pageConsumer.accept(List.of(event("second", "2025-10-20T10:00:00Z")));
+            }));
+
+        assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<List<CalendarEvent>> follower = CompletableFuture.supplyAsync(() -> {
+            List<CalendarEvent> received = new ArrayList<>();
+            inFlightRequests.execute(MAILBOX, MONTH_START, MONTH_END, received::addAll, pageConsumer -> {});
+            return received;
+        });
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        releaseFetch.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(UncheckedIOException.class);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).extracting(CalendarEvent::id).containsExactly("first", "second");
+    }
+
+    private CalendarEvent event(String id, String start) {
+        OffsetDateTime startTime = OffsetDateTime.parse(start);
+        return new CalendarEvent(id, id, startTime, startTime.plusHours(1), null, null, null, false);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.config.BulkheadProperties;
+import com.enterprise.calendar.exception.BulkheadFullException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailboxBulkheadTest {
+
+    private BulkheadProperties properties;
+    private MailboxBulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BulkheadProperties();
+        properties.setMaxConcurrentCalls(1);
+        properties.setMaxWait(Duration.ofMillis(50));
+        bulkhead = new MailboxBulkhead(properties);
+    }
+
+    @Test
+    void shouldRejectCallsBeyondMailboxLimit() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> bulkhead.execute("alice@company.com", () -> {
+            running.countDown();
+            await(release);
+            return "done";
+        }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> bulkhead.execute("alice@company.com", () -> "second"))
+            .isInstanceOf(BulkheadFullException.class);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+    }
+
+    @Test
+    void shouldIsolateMailboxes() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> noisy = CompletableFuture.supplyAsync(() -> bulkhead.execute("noisy@company.com", () -> {
+            running.countDown();
+            await(release);
+            return "noisy";
+        }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(bulkhead.execute("quiet@company.com", () -> "quiet")).isEqualTo("quiet");
+
+        release.countDown();
+        noisy.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldReleasePermitWhenCallFails() {
+        assertThatThrownBy(() -> bulkhead.execute("alice@company.com", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(bulkhead.availablePermits("alice@company.com")).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.enterprise.calendar.service;
+
+import com.enterprise.calendar.model.calendar.WorkingHours;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SlotFinderTest {
+
+    private SlotFinder slotFinder;
+
+    @BeforeEach
+    void setUp() {
+        slotFinder = new SlotFinder();
+    }
+
+    @Test
+    void shouldReturnWholeRangeWhenNoBusyIntervals() {
+        long[] slots = slotFinder.findFreeSlots(new long[0], new long[0], 0, 600, 30, WorkingHours.anyTime());
+
+        assertThat(slots).containsExactly(0, 600);
+    }
+
+    @Test
+    void shouldMergeOverlappingBusyIntervals() {
+        long[] starts = {100, 150, 400};
+        long[] ends = {200, 300, 450};
+
+        long[] slots = slotFinder.findFreeSlots(starts, ends, 0, 600, 30, WorkingHours.anyTime());
+
+        assertThat(slots).containsExactly(0, 100, 300, 400, 450, 600);
+    }
+
+    @Test
+    void shouldHandleUnsortedAndNestedIntervals() {
+        long[] starts = {400, 100, 120};
+        long[] ends = {450, 300, 130};
+
+        long[] slots = slotFinder.findFreeSlots(starts, ends, 0, 600, 30, WorkingHours.anyTime());
+
+        assertThat(slots).containsExactly(0, 100, 300, 400, 450, 600);
+    }
+
+    @Test
+    void shouldIgnoreBusyIntervalsThatEndBeforeTheyStart() {
+        long[] starts = {500, 100};
+        long[] ends = {50, 200};
+
+        long[] slots = slotFinder.findFreeSlots(starts, ends, 0, 600, 30, WorkingHours.anyTime());
+
+        assertThat(slots).containsExactly(0, 100, 200, 600);
+    }
+
+    @Test
+    void shouldDropGapsShorterThanDuration() {
+        long[] starts = {100, 220};
+        long[] ends = {200, 300};
+
+        long[] slots = slotFinder.findFreeSlots(starts, ends, 0, 400, 60, WorkingHours.anyTime());
+
+        assertThat(slots).containsExactly(0, 100, 300, 400);
+    }
+
+    @Test
+    void shouldClipBusyIntervalsOutsideRange() {
+        long[] starts = {-100, 550};
+        long[] ends = {50, 700};
+
+        long[] slots = slotFinder.findFreeSlots(starts, ends, 0, 600, 30, WorkingHours.anyTime());
+
+        assertThat(slots).containsExactly(50, 550);
+    }
+
+    @Test
+    void shouldApplyWorkingHoursAndWeekendMask() {
+        // Friday 2025-10-17 through Monday 2025-10-20 (UTC)
+        long rangeStart = epochMinute("2025-10-17T00:00:00Z");
+        long rangeEnd = epochMinute("2025-10-21T00:00:00Z");
+        WorkingHours workingHours = new WorkingHours(LocalTime.of(9, 0), LocalTime.of(17, 0), false);
+
+        long[] slots = slotFinder.findFreeSlots(new long[0], new long[0], rangeStart, rangeEnd, 60, workingHours);
+
+        assertThat(slots).containsExactly(
+            epochMinute("2025-10-17T09:00:00Z"), epochMinute("2025-10-17T17:00:00Z"),
+            epochMinute("2025-10-20T09:00:00Z"), epochMinute("2025-10-20T17:00:00Z")
+        );
+    }
+
+    @Test
+    void shouldRejectNonPositiveDuration() {
+        assertThatThrownBy(() -> slotFinder.findFreeSlots(new long[0], new long[0], 0, 600, 0, WorkingHours.anyTime()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long epochMinute(String dateTime) {
+        return OffsetDateTime.parse(dateTime).toEpochSecond() / 60;
+    }
+}
@@ -0,0 +1,82 @@
+package com.enterprise.calendar.store;
+
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarEventStoreTest {
+
+    private static final String MAILBOX = CalendarEventStore.DEFAULT_MAILBOX;
+
+    private CalendarEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new CalendarEventStore();
+    }
+
+    @Test
+    void shouldReturnOnlyEventsOverlappingRange() {
+        store.window(MAILBOX, YearMonth.of(2025, 10)).applyDelta(List.of(
+            event("before", "2025-10-01T09:00:00Z", "2025-10-01T10:00:00Z"),
+            event("inside", "2025-10-15T09:00:00Z", "2025-10-15T10:00:00Z"),
+            event("after", "2025-10-30T09:00:00Z", "2025-10-30T10:00:00Z")
+        ), List.of(), "delta", Instant.now());
+
+        List<CalendarEvent> events = store.query(MAILBOX,
+            OffsetDateTime.parse("2025-10-10T00:00:00Z"),
+            OffsetDateTime.parse("2025-10-20T23:59:59Z"));
+
+        assertThat(events).extracting(CalendarEvent::id).containsExactly("inside");
+    }
+
+    @Test
+    void shouldDeduplicateEventsSpanningWindows() {
+        CalendarEvent spanning = event("spanning", "2025-10-31T22:00:00Z", "2025-11-01T02:00:00Z");
+        store.window(MAILBOX, YearMonth.of(2025, 10)).applyDelta(List.of(spanning), List.of(), "delta-oct", Instant.now());
+        store.window(MAILBOX, YearMonth.of(2025, 11)).applyDelta(List.of(spanning), List.of(), "delta-nov", Instant.now());
+
+        List<CalendarEvent> events = store.query(MAILBOX,
+            OffsetDateTime.parse("2025-10-01T00:00:00Z"),
+            OffsetDateTime.parse("2025-11-30T23:59:59Z"));
+
+        assertThat(events).extracting(CalendarEvent::id).containsExactly("spanning");
+    }
+
+    @Test
+    void shouldMoveLocallyChangedEventBetweenHeldWindows() {
+        Instant syncedAt = Instant.now();
+        SyncWindow october = store.window(MAILBOX, YearMonth.of(2025, 10));
+        october.applyDelta(List.of(event("moved", "2025-10-31T09:00:00Z", "2025-10-31T10:00:00Z")), List.of(), "delta-oct", syncedAt);
+        store.window(MAILBOX, YearMonth.of(2025, 11)).applyDelta(List.of(), List.of(), "delta-nov", syncedAt);
+
+        store.applyLocalChange(MAILBOX, event("moved", "2025-11-03T09:00:00Z", "2025-11-03T10:00:00Z"));
+
+        assertThat(october.snapshot()).isEmpty();
+        assertThat(october.getDeltaLink()).isEqualTo("delta-oct");
+        assertThat(october.getLastSyncedAt()).isEqualTo(syncedAt);
+        assertThat(store.query(MAILBOX, OffsetDateTime.parse("2025-11-01T00:00:00Z"), OffsetDateTime.parse("2025-11-30T23:59:59Z")))
+            .extracting(CalendarEvent::start)
+            .containsExactly(OffsetDateTime.parse("2025-11-03T09:00:00Z"));
+    }
+
+    @Test
+    void shouldReturnEmptyListForUnknownMailbox() {
+        List<CalendarEvent> events = store.query("unknown@company.com",
+            OffsetDateTime.parse("2025-10-01T00:00:00Z"),
+            OffsetDateTime.parse("2025-10-31T23:59:59Z"));
+
+        assertThat(events).isEmpty();
+    }
+
+    private CalendarEvent event(String id, String start, String end) {
+        return new CalendarEvent(id, id, OffsetDateTime.parse(start), OffsetDateTime.parse(end), null, null, null, false);
+    }
+}
@@ -0,0 +1,166 @@
+package com.enterprise.calendar.store;
+
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CalendarSnapshotTest {
+
+    private static final String MAILBOX = CalendarEventStore.DEFAULT_MAILBOX;
+    private static final YearMonth OCTOBER = YearMonth.of(2025, 10);
+    private static final YearMonth NOVEMBER = YearMonth.of(2025, 11);
+    private static final Instant SYNCED_AT = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    private static final Instant NOT_SYNCED_BEFORE = SYNCED_AT.minus(Duration.ofDays(7));
+
+    @TempDir
+    private Path dir;
+
+    private Path path;
+
+    @BeforeEach
+    void setUp() {
+        path = dir.resolve("events.snapshot");
+    }
+
+    @Test
+    void shouldRestoreEventsAndDeltaLinkOfWindow() throws IOException {
+        CalendarEvent meeting = new CalendarEvent("1", "Café ☕ sync 🗓", OffsetDateTime.parse("2025-10-15T09:00:00.5+02:00"),
+            OffsetDateTime.parse("2025-10-15T10:00:00+02:00"), "Room 1", "Alice", "alice@company.com", false);
+        CalendarEvent untimed = new CalendarEvent("2", null, null, null, null, null, null, true);
+        CalendarEventStore store = new CalendarEventStore();
+        store.window(MAILBOX, OCTOBER).applyDelta(List.of(meeting, untimed), List.of(), "delta-oct", SYNCED_AT);
+
+        assertThat(store.writeSnapshot(path, NOT_SYNCED_BEFORE)).isEqualTo(1);
+
+        CalendarEventStore restored = new CalendarEventStore();
+        restored.restoreFrom(CalendarSnapshot.open(path, NOT_SYNCED_BEFORE));
+        SyncWindow window = restored.window(MAILBOX, OCTOBER);
+
+        assertThat(window.getDeltaLink()).isEqualTo("delta-oct");
+        assertThat(window.getLastSyncedAt()).isEqualTo(SYNCED_AT);
+        assertThat(window.snapshot()).containsExactlyInAnyOrder(meeting, untimed);
+        assertThat(restored.query(MAILBOX, OffsetDateTime.parse("2025-10-15T00:00:00Z"),
+            OffsetDateTime.parse("2025-10-15T23:59:59Z"))).containsExactly(meeting);
+    }
+
+    @Test
+    void shouldRestoreEachWindowOnlyOnce() throws IOException {
+        CalendarEventStore store = new CalendarEventStore();
+        store.window(MAILBOX, OCTOBER).applyDelta(List.of(event("1", "2025-10-15")), List.of(), "delta-oct", SYNCED_AT);
+        store.writeSnapshot(path, NOT_SYNCED_BEFORE);
+
+        CalendarSnapshot snapshot = CalendarSnapshot.open(path, NOT_SYNCED_BEFORE);
+
+        assertThat(snapshot.restore(MAILBOX, OCTOBER, new SyncWindow(OCTOBER))).isTrue();
+        assertThat(snapshot.restore(MAILBOX, OCTOBER, new SyncWindow(OCTOBER))).isFalse();
+        assertThat(snapshot.pendingWindows()).isZero();
+    }
+
+    @Test
+    void shouldCarryUnrequestedWindowsIntoNextSnapshot() throws IOException {
+        CalendarEventStore store = new CalendarEventStore();
+        store.window(MAILBOX, OCTOBER).applyDelta(List.of(event("1", "2025-10-15")), List.of(), "delta-oct", SYNCED_AT);
+        store.window(MAILBOX, NOVEMBER).applyDelta(List.of(event("2", "2025-11-15")), List.of(), "delta-nov", SYNCED_AT);
+        store.writeSnapshot(path, NOT_SYNCED_BEFORE);
+
+        CalendarEventStore restarted = new CalendarEventStore();
+        restarted.restoreFrom(CalendarSnapshot.open(path, NOT_SYNCED_BEFORE));
+        restarted.window(MAILBOX, OCTOBER).applyDelta(List.of(event("3", "2025-10-20")), List.of(), "delta-oct-2", SYNCED_AT);
+        assertThat(restarted.writeSnapshot(path, NOT_SYNCED_BEFORE)).isEqualTo(2);
+
+        CalendarEventStore restored = new CalendarEventStore();
+        restored.restoreFrom(CalendarSnapshot.open(path, NOT_SYNCED_BEFORE));
+
+        assertThat(restored.window(MAILBOX, OCTOBER).getDeltaLink()).isEqualTo("delta-oct-2");
+        assertThat(restored.window(MAILBOX, OCTOBER).snapshot()).extracting(CalendarEvent::id)
+            .containsExactlyInAnyOrder("1", "3");
+        assertThat(restored.window(MAILBOX, NOVEMBER).getDeltaLink()).isEqualTo("delta-nov");
+        assertThat(restored.window(MAILBOX, NOVEMBER).snapshot()).extracting(CalendarEvent::id).containsExactly("2");
+    }
+
+    @Test
+    void shouldSkipUnsyncedAndExpiredWindows() throws IOException {
+        CalendarEventStore store = new CalendarEventStore();
+        store.window(MAILBOX, OCTOBER);
+        store.window(MAILBOX, NOVEMBER).applyDelta(List.of(event("1", "2025-11-15")), List.of(), "delta-nov",
+            NOT_SYNCED_BEFORE.minusSeconds(1));
+
+        assertThat(store.writeSnapshot(path, NOT_SYNCED_BEFORE)).isZero();
+        assertThat(CalendarSnapshot.open(path, NOT_SYNCED_BEFORE).pendingWindows()).isZero();
+    }
+
+    @Test
+    void shouldRejectCorruptSnapshot() throws IOException {
+        CalendarEventStore store = new CalendarEventStore();
+        store.window(MAILBOX, OCTOBER).applyDelta(List.of(event("1", "2025-10-15")), List.of(), "delta-oct", SYNCED_AT);
+        store.writeSnapshot(path, NOT_SYNCED_BEFORE);
+
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> CalendarSnapshot.open(path, NOT_SYNCED_BEFORE))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Corrupt");
+    }
+
+    @Test
+    void shouldSkipCorruptSectionOnRestore() throws IOException {
+        CalendarEventStore store = new CalendarEventStore();
+        store.window(MAILBOX, OCTOBER).applyDelta(List.of(event("1", "2025-10-15")), List.of(), "delta-oct", SYNCED_AT);
+        store.writeSnapshot(path, NOT_SYNCED_BEFORE);
+
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[CalendarSnapshot.HEADER_SIZE + 8] ^= 1;
+        Files.write(path, bytes);
+
+        // Sections are only read when restored, so opening still succeeds
+        CalendarSnapshot snapshot = CalendarSnapshot.open(path, NOT_SYNCED_BEFORE);
+        SyncWindow window = new SyncWindow(OCTOBER);
+
+        assertThat(snapshot.restore(MAILBOX, OCTOBER, window)).isFalse();
+        assertThat(window.getDeltaLink()).isNull();
+        assertThat(window.snapshot()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectOtherVersions() throws IOException {
+        byte[] header = new byte[CalendarSnapshot.HEADER_SIZE];
+        ByteBuffer.wrap(header).putInt(CalendarSnapshot.MAGIC).putShort((short) (CalendarSnapshot.VERSION + 1));
+        Files.write(path, header);
+
+        assertThatThrownBy(() -> CalendarSnapshot.open(path, NOT_SYNCED_BEFORE))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("version");
+    }
+
+    @Test
+    void shouldComputeUtf8LengthLikeStringEncoder() {
+        for (String value : List.of("", "plain", "Café", "☕", "🗓", "\uD800 unpaired", "tail \uDC00")) {
+            assertThat(CalendarSnapshot.utf8Length(value))
+                .as(value)
+                .isEqualTo(value.getBytes(StandardCharsets.UTF_8).length);
+        }
+    }
+
+    private CalendarEvent event(String id, String day) {
+        return new CalendarEvent(id, id, OffsetDateTime.parse(day + "T09:00:00Z"), OffsetDateTime.parse(day + "T10:00:00Z"),
+            null, null, null, false);
+    }
+}
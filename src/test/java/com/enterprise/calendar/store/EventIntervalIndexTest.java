@@ -0,0 +1,101 @@
+package com.enterprise.calendar.store;
+
+import com.enterprise.calendar.model.calendar.CalendarEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventIntervalIndexTest {
+
+    private EventIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventIntervalIndex();
+    }
+
+    @Test
+    void shouldReturnOverlappingEventsOrderedByStart() {
+        index.insert(event("late", 500, 600));
+        index.insert(event("early", 100, 200));
+        index.insert(event("long", 0, 1000));
+        index.insert(event("outside", 2000, 2100));
+
+        List<CalendarEvent> matches = index.query(150, 550);
+
+        assertThat(matches).extracting(CalendarEvent::id).containsExactly("long", "early", "late");
+    }
+
+    @Test
+    void shouldExcludeEventEndingAtQueryStart() {
+        index.insert(event("adjacent", 0, 100));
+
+        assertThat(index.query(100, 200)).isEmpty();
+    }
+
+    @Test
+    void shouldRemoveEvents() {
+        CalendarEvent first = event("first", 100, 200);
+        CalendarEvent second = event("second", 100, 300);
+        index.insert(first);
+        index.insert(second);
+
+        assertThat(index.remove(first)).isTrue();
+        assertThat(index.remove(first)).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.query(0, 1000)).extracting(CalendarEvent::id).containsExactly("second");
+    }
+
+    @Test
+    void shouldIgnoreEventsWithoutDates() {
+        index.insert(new CalendarEvent("undated", null, null, null, null, null, null, false));
+
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void shouldMatchLinearScanOnRandomData() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<CalendarEvent> events = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long start = random.nextLong(100_000);
+            CalendarEvent event = event("event-" + i, start, start + random.nextLong(1, 5_000));
+            events.add(event);
+            index.insert(event);
+        }
+        for (int i = 0; i < 500; i++) {
+            CalendarEvent removed = events.remove(random.nextInt(events.size()));
+            index.remove(removed);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            long start = random.nextLong(100_000);
+            long end = start + random.nextLong(10_000);
+
+            List<String> expected = events.stream()
+                .filter(event -> event.start().toEpochSecond() <= end && event.end().toEpochSecond() > start)
+                .map(CalendarEvent::id)
+                .toList();
+
+            assertThat(index.query(start, end)).extracting(CalendarEvent::id).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private CalendarEvent event(String id, long start, long end) {
+        return new CalendarEvent(
+            id,
+            id,
+            OffsetDateTime.ofInstant(Instant.ofEpochSecond(start), ZoneOffset.UTC),
+            OffsetDateTime.ofInstant(Instant.ofEpochSecond(end), ZoneOffset.UTC),
+            null, null, null, false
+        );
+    }
+}